@@ -0,0 +1,52 @@
+package com.example.Task_Manager_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How long each activity type is kept. The retention is stamped on every row
+ * as {@code expires_at} when it is written, and activity_logs is partitioned
+ * by that column, so expiring a month of rows is a partition drop.
+ */
+@Component
+@ConfigurationProperties(prefix = "activity.retention")
+public class ActivityRetentionProperties {
+
+    private int defaultDays = 365;
+
+    private Map<String, Integer> types = new HashMap<>();
+
+    public Duration retentionFor(String type) {
+        return Duration.ofDays(types.getOrDefault(type, defaultDays));
+    }
+
+    public Duration minRetention() {
+        return Duration.ofDays(Math.min(defaultDays,
+                types.values().stream().mapToInt(Integer::intValue).min().orElse(defaultDays)));
+    }
+
+    public Duration maxRetention() {
+        return Duration.ofDays(Math.max(defaultDays,
+                types.values().stream().mapToInt(Integer::intValue).max().orElse(defaultDays)));
+    }
+
+    public int getDefaultDays() {
+        return defaultDays;
+    }
+
+    public void setDefaultDays(int defaultDays) {
+        this.defaultDays = defaultDays;
+    }
+
+    public Map<String, Integer> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Map<String, Integer> types) {
+        this.types = types;
+    }
+}
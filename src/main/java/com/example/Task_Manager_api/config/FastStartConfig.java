@@ -0,0 +1,80 @@
+package com.example.Task_Manager_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+// Profile fast-start (see application-fast-start.yml): lazy beans, and background jobs held back until the app is up
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    // Periodic jobs start this long after they are registered instead of competing with startup
+    static class DelayedStartTaskScheduler extends ThreadPoolTaskScheduler {
+
+        private final Duration startDelay;
+
+        DelayedStartTaskScheduler(Duration startDelay) {
+            this.startDelay = startDelay;
+        }
+
+        private Instant notBefore(Instant startTime) {
+            Instant earliest = Instant.now().plus(startDelay);
+            return startTime.isAfter(earliest) ? startTime : earliest;
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+            return super.scheduleAtFixedRate(task, notBefore(Instant.now()), period);
+        }
+
+        // @Scheduled registers fixed-rate and fixed-delay jobs with a start time even without an initialDelay
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+            return super.scheduleAtFixedRate(task, notBefore(startTime), period);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+            return super.scheduleWithFixedDelay(task, notBefore(Instant.now()), delay);
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+            return super.scheduleWithFixedDelay(task, notBefore(startTime), delay);
+        }
+    }
+
+    // A lazy bean's @Scheduled methods are only registered once something uses it, which may be never
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansStayEager() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanType)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder,
+            @Value("${fast-start.job-start-delay-ms:30000}") long startDelayMs) {
+        return builder.configure(new DelayedStartTaskScheduler(Duration.ofMillis(startDelayMs)));
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.Task_Manager_api.config;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JavaMailSenderImpl that keeps SMTP connections open between sends instead
+ * of connecting, authenticating and negotiating STARTTLS for every call. A
+ * send borrows one connection for all of its messages, so a batch handed over
+ * in one call goes out in a single session. At most poolSize connections are
+ * open; a caller that finds none free waits up to borrowTimeoutMs.
+ * <p>
+ * A connection is replaced once it has carried maxMessagesPerConnection
+ * messages (servers cap messages per session) and closed when it has sat idle
+ * longer than maxIdleMs (servers drop idle sessions). A message that fails
+ * because its connection broke is retried once on a new connection; failures
+ * the server reports for the message itself are not.
+ */
+public class PooledJavaMailSender extends JavaMailSenderImpl implements InitializingBean, DisposableBean {
+
+    private static class PooledTransport {
+        final Transport transport;
+        int sent;
+        long lastUsed;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsed = System.currentTimeMillis();
+        }
+    }
+
+    private final int poolSize;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMs;
+    private final long borrowTimeoutMs;
+
+    private final Semaphore permits;
+    // Most recently used first, so a quiet period lets the others go idle and close
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private volatile boolean closed;
+
+    private ScheduledExecutorService reaper;
+
+    public PooledJavaMailSender(int poolSize, int maxMessagesPerConnection, long maxIdleMs, long borrowTimeoutMs) {
+        this.poolSize = poolSize;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMs = maxIdleMs;
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.permits = new Semaphore(poolSize, true);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (maxIdleMs > 0) {
+            reaper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "smtp-pool-reaper");
+                t.setDaemon(true);
+                return t;
+            });
+            reaper.scheduleWithFixedDelay(this::closeIdle, maxIdleMs, maxIdleMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getIdleConnections() {
+        return idle.size();
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport connection = borrow(mimeMessages, originalMessages);
+        int i = 0;
+        try {
+            for (; i < mimeMessages.length; i++) {
+                if (connection == null || connection.sent >= maxMessagesPerConnection) {
+                    discard(connection);
+                    connection = null;
+                    connection = connect();
+                }
+                try {
+                    send(connection, mimeMessages[i]);
+                } catch (MessagingException e) {
+                    // Rejected by the server if the session still answers NOOP
+                    if (connection.transport.isConnected()) {
+                        failedMessages.put(original(mimeMessages, originalMessages, i), e);
+                        continue;
+                    }
+                    // The connection broke: once more on a fresh one
+                    discard(connection);
+                    connection = null;
+                    connection = connect();
+                    try {
+                        send(connection, mimeMessages[i]);
+                    } catch (MessagingException retryFailure) {
+                        failedMessages.put(original(mimeMessages, originalMessages, i), retryFailure);
+                    }
+                }
+            }
+        } catch (MessagingException e) {
+            // No connection to be had: this message and everything after it fail
+            for (; i < mimeMessages.length; i++) {
+                failedMessages.put(original(mimeMessages, originalMessages, i), e);
+            }
+        } finally {
+            release(connection);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, Object[] originalMessages, int i) {
+        return originalMessages != null ? originalMessages[i] : mimeMessages[i];
+    }
+
+    private void send(PooledTransport connection, MimeMessage message) throws MessagingException {
+        // Same preparation as JavaMailSenderImpl
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        String messageId = message.getMessageID();
+        message.saveChanges();
+        if (messageId != null) {
+            message.setHeader("Message-ID", messageId);
+        }
+        Address[] addresses = message.getAllRecipients();
+        connection.transport.sendMessage(message, addresses != null ? addresses : new Address[0]);
+        connection.sent++;
+    }
+
+    // Null when a permit was taken but there is no idle connection yet; doSend connects on first use
+    private PooledTransport borrow(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw failAll(mimeMessages, originalMessages,
+                        new MessagingException("No SMTP connection free after " + borrowTimeoutMs + " ms"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failAll(mimeMessages, originalMessages, new MessagingException("Interrupted waiting for SMTP"));
+        }
+        long now = System.currentTimeMillis();
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (maxIdleMs <= 0 || now - connection.lastUsed < maxIdleMs) {
+                return connection;
+            }
+            discard(connection);
+        }
+        return null;
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        try {
+            return new PooledTransport(connectTransport());
+        } catch (AuthenticationFailedException e) {
+            throw new MailAuthenticationException(e);
+        }
+    }
+
+    private void release(PooledTransport connection) {
+        try {
+            if (connection != null) {
+                // Not checked here: that would cost a round trip per send, and a dead one is replaced on use
+                if (closed) {
+                    discard(connection);
+                } else {
+                    connection.lastUsed = System.currentTimeMillis();
+                    idle.offerFirst(connection);
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static void discard(PooledTransport connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.transport.close();
+        } catch (Exception e) {
+            // Already gone
+        }
+    }
+
+    private static MailSendException failAll(MimeMessage[] mimeMessages, Object[] originalMessages,
+            Exception cause) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (int i = 0; i < mimeMessages.length; i++) {
+            failedMessages.put(original(mimeMessages, originalMessages, i), cause);
+        }
+        return new MailSendException(failedMessages);
+    }
+
+    public void closeIdle() {
+        long cutoff = System.currentTimeMillis() - maxIdleMs;
+        // Oldest are at the end
+        PooledTransport connection;
+        while ((connection = idle.peekLast()) != null && connection.lastUsed < cutoff) {
+            if (idle.removeLastOccurrence(connection)) {
+                discard(connection);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.Task_Manager_api.config;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between
+ * {@link #start()} and {@link #stop()}, how often each distinct statement was
+ * issued, and the time spent executing them. {@link QueryAccountingFilter}
+ * brackets every API request with it. Statements sent through JdbcTemplate
+ * bypass Hibernate and are not counted.
+ */
+public class QueryAccountant implements StatementInspector {
+
+    public static class Tally {
+        private int statements;
+        private long executionNanos;
+        private long executionStartedAt;
+        private final Map<String, Integer> countsBySql = new HashMap<>();
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getExecutionNanos() {
+            return executionNanos;
+        }
+
+        // The statement issued most often, e.g. one lazy load per row of a list; null when there were none
+        public Map.Entry<String, Integer> getMostRepeated() {
+            Map.Entry<String, Integer> most = null;
+            for (Map.Entry<String, Integer> entry : countsBySql.entrySet()) {
+                if (most == null || entry.getValue() > most.getValue()) {
+                    most = entry;
+                }
+            }
+            return most;
+        }
+    }
+
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    public static Tally start() {
+        Tally tally = new Tally();
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    public static Tally stop() {
+        Tally tally = CURRENT.get();
+        CURRENT.remove();
+        return tally;
+    }
+
+    // Called once per statement Hibernate prepares; the SQL is passed through unchanged
+    @Override
+    public String inspect(String sql) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.statements++;
+            tally.countsBySql.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    // Created by Hibernate for every session (hibernate.session.events.auto), so it keeps no state of its own
+    public static class ExecutionTimer extends BaseSessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            started();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            ended();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            started();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            ended();
+        }
+
+        private static void started() {
+            Tally tally = CURRENT.get();
+            if (tally != null) {
+                tally.executionStartedAt = System.nanoTime();
+            }
+        }
+
+        private static void ended() {
+            Tally tally = CURRENT.get();
+            if (tally != null && tally.executionStartedAt != 0) {
+                tally.executionNanos += System.nanoTime() - tally.executionStartedAt;
+                tally.executionStartedAt = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.Task_Manager_api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hooks QueryAccountant into every Hibernate session: statement counts via the inspector, timings via the listener
+@Configuration
+public class QueryAccountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryAccountingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryAccountant());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    QueryAccountant.ExecutionTimer.class.getName());
+        };
+    }
+}
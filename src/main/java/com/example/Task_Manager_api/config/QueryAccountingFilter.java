@@ -0,0 +1,151 @@
+package com.example.Task_Manager_api.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements and statement time of every API request (security
+ * filters and JSON rendering included, so lazy loads during serialization
+ * count too) and records them as metrics per route. A request that issues the
+ * same statement n-plus-one-threshold times or more is logged as a likely N+1.
+ * <p>
+ * With query-accounting.response-headers on (development and test, not
+ * production) the counts are also returned as X-Query-* headers. The body is
+ * then buffered until the request completes so the headers can still be set;
+ * Server-Sent Event streams are passed through and get no headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryAccountingFilter extends OncePerRequestFilter {
+
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String TIME_HEADER = "X-Query-Time-Ms";
+    // How often the most repeated statement was issued
+    public static final String REPEATED_HEADER = "X-Query-Repeated";
+
+    @Value("${query-accounting.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query-accounting.response-headers:false}")
+    private boolean responseHeaders;
+
+    @Value("${query-accounting.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    // Absent in MVC test slices
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HeaderBuffer buffered = responseHeaders ? new HeaderBuffer(request, response) : null;
+        QueryAccountant.Tally tally = QueryAccountant.start();
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            QueryAccountant.stop();
+            report(request, tally);
+            if (buffered != null) {
+                if (!response.isCommitted()) {
+                    Map.Entry<String, Integer> repeated = tally.getMostRepeated();
+                    response.setHeader(COUNT_HEADER, Integer.toString(tally.getStatements()));
+                    response.setHeader(TIME_HEADER,
+                            Long.toString(TimeUnit.NANOSECONDS.toMillis(tally.getExecutionNanos())));
+                    response.setHeader(REPEATED_HEADER, Integer.toString(repeated != null ? repeated.getValue() : 0));
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryAccountant.Tally tally) {
+        // The mapped pattern (/api/tasks/{id}), not the raw URI, to keep one series per route
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        Map.Entry<String, Integer> repeated = tally.getMostRepeated();
+        boolean nPlusOne = repeated != null && repeated.getValue() >= nPlusOneThreshold;
+        if (nPlusOne) {
+            String sql = repeated.getKey();
+            System.err.println("Possible N+1 in " + method + " " + route + ": " + repeated.getValue() + " x "
+                    + (sql.length() > 200 ? sql.substring(0, 200) + "..." : sql));
+        }
+
+        if (meterRegistry == null) {
+            return;
+        }
+        DistributionSummary.builder("http.server.requests.queries").tag("method", method).tag("uri", route)
+                .register(meterRegistry).record(tally.getStatements());
+        Timer.builder("http.server.requests.query.time").tag("method", method).tag("uri", route)
+                .register(meterRegistry).record(tally.getExecutionNanos(), TimeUnit.NANOSECONDS);
+        if (nPlusOne) {
+            Counter.builder("http.server.requests.n-plus-one").tag("method", method).tag("uri", route)
+                    .register(meterRegistry).increment();
+        }
+    }
+
+    // Writes straight through once a streaming response (SseEmitter) has switched caching off
+    private static class HeaderBuffer extends ContentCachingResponseWrapper {
+
+        // Set through ShallowEtagHeaderFilter.disableContentCaching by Spring MVC's streaming return value handlers
+        private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+        private final HttpServletRequest request;
+
+        HeaderBuffer(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        private boolean streaming() {
+            return request.getAttribute(STREAMING_ATTRIBUTE) != null;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return streaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return streaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (streaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.Task_Manager_api.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy so the connection
+ * is only fetched once the transaction's read-only flag is known.
+ * <p>
+ * Lag is measured with a heartbeat: the primary's replication_heartbeat row is
+ * rewritten every check, and a replica whose copy of it is older than the
+ * allowed lag (or that can't be queried) is skipped until it catches up. With
+ * no usable replica, reads fall back to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final Duration maxLag;
+    private final long checkIntervalMs;
+
+    private volatile boolean[] healthy;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ScheduledExecutorService monitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+            long checkIntervalMs) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas);
+        this.maxLag = maxLag;
+        this.checkIntervalMs = checkIntervalMs;
+        this.healthy = new boolean[replicas.size()];
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        checkReplicas();
+        if (checkIntervalMs > 0) {
+            monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "replica-lag-monitor");
+                t.setDaemon(true);
+                return t;
+            });
+            monitor.scheduleWithFixedDelay(this::checkReplicas, checkIntervalMs, checkIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        boolean[] current = healthy;
+        // Round robin over the healthy replicas
+        for (int attempt = 0; attempt < current.length; attempt++) {
+            int index = Math.floorMod(next.getAndIncrement(), current.length);
+            if (current[index]) {
+                return index;
+            }
+        }
+        return PRIMARY;
+    }
+
+    public boolean isReplicaHealthy(int index) {
+        return healthy[index];
+    }
+
+    // Writes a fresh heartbeat on the primary, then checks how far behind each replica's copy is
+    public void checkReplicas() {
+        LocalDateTime now = LocalDateTime.now();
+        try (Connection con = primary.getConnection()) {
+            con.setAutoCommit(true);
+            try (PreparedStatement update = con.prepareStatement(
+                    "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1")) {
+                update.setTimestamp(1, Timestamp.valueOf(now));
+                if (update.executeUpdate() == 0) {
+                    try (PreparedStatement insert = con.prepareStatement(
+                            "INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)")) {
+                        insert.setTimestamp(1, Timestamp.valueOf(now));
+                        insert.executeUpdate();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Table not created yet on a fresh schema; replicas are judged on their last beat
+            System.err.println("Failed to write replication heartbeat: " + e.getMessage());
+        }
+
+        boolean[] result = new boolean[replicas.size()];
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection con = replicas.get(i).getConnection();
+                    PreparedStatement query = con.prepareStatement(
+                            "SELECT beat_at FROM replication_heartbeat WHERE id = 1");
+                    ResultSet rs = query.executeQuery()) {
+                result[i] = rs.next() && Duration.between(rs.getTimestamp(1).toLocalDateTime(), now)
+                        .compareTo(maxLag) <= 0;
+            } catch (Exception e) {
+                result[i] = false;
+            }
+            if (result[i] != healthy[i]) {
+                System.err.println("Replica " + i + (result[i] ? " is back in rotation" : " is lagging or down"));
+            }
+        }
+        healthy = result;
+    }
+
+    @Override
+    public void destroy() {
+        if (monitor != null) {
+            monitor.shutdownNow();
+        }
+    }
+}
@@ -38,8 +38,12 @@ public class ActivityLogController {
     @GetMapping
     public Page<ActivityLog> getRecentActivities(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return activityLogService.getRecentActivitiesForUser(getCurrentUser(), PageRequest.of(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "30") int days) {
+        if (days < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "days must be positive");
+        }
+        return activityLogService.getRecentActivitiesForUser(getCurrentUser(), days, PageRequest.of(page, size));
     }
 
     @GetMapping("/task/{taskId}")
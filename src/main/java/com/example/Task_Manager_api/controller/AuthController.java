@@ -1,10 +1,10 @@
 package com.example.Task_Manager_api.controller;
 
+import com.example.Task_Manager_api.exception.PasswordHashingRejectedException;
 import com.example.Task_Manager_api.model.User;
 import com.example.Task_Manager_api.payload.AuthRequest;
 import com.example.Task_Manager_api.payload.AuthResponse;
 import com.example.Task_Manager_api.service.AuthService;
-import com.example.Task_Manager_api.model.RefreshToken;
 import com.example.Task_Manager_api.payload.TokenRefreshRequest;
 import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +25,8 @@ public class AuthController {
         try {
             authService.register(user);
             return ResponseEntity.status(HttpStatus.CREATED).body("User registered successfully.");
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -35,6 +37,8 @@ public class AuthController {
         try {
             AuthResponse response = authService.authenticate(request);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingRejectedException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         }
@@ -42,16 +46,7 @@ public class AuthController {
 
     @PostMapping("/refresh-token")
     public ResponseEntity<?> refreshToken(@Valid @RequestBody TokenRefreshRequest request) {
-        String requestRefreshToken = request.getRefreshToken();
-
-        return authService.findByRefreshToken(requestRefreshToken)
-                .map(authService::verifyExpiration)
-                .map(RefreshToken::getUser)
-                .map(user -> {
-                    String token = authService.generateAccessToken(user);
-                    return ResponseEntity.ok(new AuthResponse(token, requestRefreshToken));
-                })
-                .orElseThrow(() -> new RuntimeException("Refresh token is not in database!"));
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
     }
 
     @PostMapping("/logout")
@@ -1,11 +1,11 @@
 package com.example.Task_Manager_api.controller;
 
-import com.example.Task_Manager_api.model.Comment;
+import com.example.Task_Manager_api.payload.CommentView;
+import com.example.Task_Manager_api.payload.CursorPage;
 import com.example.Task_Manager_api.service.CommentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -16,12 +16,14 @@ public class CommentController {
     private CommentService commentService;
 
     @PostMapping
-    public Comment addComment(@PathVariable Long taskId, @RequestBody Map<String, String> payload) {
+    public CommentView addComment(@PathVariable Long taskId, @RequestBody Map<String, String> payload) {
         return commentService.addComment(taskId, payload.get("text"));
     }
 
     @GetMapping
-    public List<Comment> getComments(@PathVariable Long taskId) {
-        return commentService.getCommentsForTask(taskId);
+    public CursorPage<CommentView> getComments(@PathVariable Long taskId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return commentService.getCommentsForTask(taskId, cursor, size);
     }
 }
@@ -1,12 +1,18 @@
 package com.example.Task_Manager_api.controller;
 
 import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.GroupDeletionJob;
+import com.example.Task_Manager_api.payload.BulkInvitationResult;
+import com.example.Task_Manager_api.payload.GroupSummary;
+import com.example.Task_Manager_api.payload.UserSummary;
 import com.example.Task_Manager_api.service.GroupService;
+import com.example.Task_Manager_api.service.InvitationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/groups")
@@ -15,6 +21,9 @@ public class GroupController {
     @Autowired
     private GroupService groupService;
 
+    @Autowired
+    private InvitationService invitationService;
+
     @PostMapping
     public ResponseEntity<Group> createGroup(@RequestBody String name) {
         // Clean up name if it comes as JSON string
@@ -23,13 +32,18 @@ public class GroupController {
     }
 
     @GetMapping("/my-groups")
-    public ResponseEntity<List<Group>> getMyGroups() {
+    public ResponseEntity<List<GroupSummary>> getMyGroups() {
         return ResponseEntity.ok(groupService.getMyGroups());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Group> getGroupById(@PathVariable Long id) {
-        return ResponseEntity.ok(groupService.getGroupById(id));
+    public ResponseEntity<GroupSummary> getGroupById(@PathVariable Long id) {
+        return ResponseEntity.ok(groupService.getGroupSummary(id));
+    }
+
+    @GetMapping("/{id}/members")
+    public ResponseEntity<List<UserSummary>> getGroupMembers(@PathVariable Long id) {
+        return ResponseEntity.ok(groupService.getGroupMembers(id));
     }
 
     @PostMapping("/{id}/leave")
@@ -41,6 +55,17 @@ public class GroupController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteGroup(@PathVariable Long id) {
         groupService.deleteGroup(id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{id}/invitations/bulk")
+    public ResponseEntity<BulkInvitationResult> inviteMembers(@PathVariable Long id,
+            @RequestBody Map<String, List<String>> request) {
+        return ResponseEntity.ok(invitationService.inviteMembers(id, request.get("emails")));
+    }
+
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<GroupDeletionJob> getDeletionStatus(@PathVariable Long id) {
+        return ResponseEntity.ok(groupService.getDeletionStatus(id));
     }
 }
@@ -0,0 +1,62 @@
+package com.example.Task_Manager_api.controller;
+
+import com.example.Task_Manager_api.model.EmailDelivery;
+import com.example.Task_Manager_api.model.Notification;
+import com.example.Task_Manager_api.payload.CursorPage;
+import com.example.Task_Manager_api.service.EmailDigestService;
+import com.example.Task_Manager_api.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private EmailDigestService emailDigestService;
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping
+    public CursorPage<Notification> getNotifications(@RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return notificationService.getInbox(cursor, size);
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/unread-count")
+    public Map<String, Long> getUnreadCount() {
+        return Map.of("unreadCount", notificationService.getUnreadCount());
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PostMapping("/read")
+    public Map<String, Long> markRead(@RequestBody Map<String, List<Long>> request) {
+        return Map.of("unreadCount", notificationService.markRead(request.get("ids")));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PostMapping("/read-all")
+    public Map<String, Long> markAllRead() {
+        return Map.of("unreadCount", notificationService.markAllRead());
+    }
+
+    // IMMEDIATE: one email per assignment or reminder; DIGEST: one summary email a day
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/preferences")
+    public Map<String, EmailDelivery> getPreferences() {
+        return Map.of("emailDelivery", emailDigestService.getEmailDelivery());
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PutMapping("/preferences")
+    public Map<String, EmailDelivery> updatePreferences(@RequestBody Map<String, EmailDelivery> request) {
+        return Map.of("emailDelivery", emailDigestService.setEmailDelivery(request.get("emailDelivery")));
+    }
+}
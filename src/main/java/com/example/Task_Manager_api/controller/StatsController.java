@@ -0,0 +1,87 @@
+package com.example.Task_Manager_api.controller;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.TaskDailyStat;
+import com.example.Task_Manager_api.payload.FlowPoint;
+import com.example.Task_Manager_api.payload.StatsPoint;
+import com.example.Task_Manager_api.service.GroupService;
+import com.example.Task_Manager_api.service.TaskFlowService;
+import com.example.Task_Manager_api.service.TaskStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskFlowService taskFlowService;
+
+    @Autowired
+    private GroupService groupService;
+
+    // Defaults to the last 30 days by day
+    @GetMapping("/me")
+    public ResponseEntity<List<StatsPoint>> getMyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        Long userId = groupService.getCurrentUser().getId();
+        return ResponseEntity.ok(series(TaskDailyStat.Scope.USER, userId, from, to, granularity));
+    }
+
+    @GetMapping("/groups/{groupId}")
+    public ResponseEntity<List<StatsPoint>> getGroupStats(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity) {
+        groupService.getGroupById(groupId); // Checks membership
+        return ResponseEntity.ok(series(TaskDailyStat.Scope.GROUP, groupId, from, to, granularity));
+    }
+
+    // Cumulative flow per day; getRemaining() of each point is the burndown line
+    @GetMapping("/groups/{groupId}/flow")
+    public ResponseEntity<List<FlowPoint>> getGroupFlow(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        groupService.getGroupById(groupId); // Checks membership
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(taskFlowService.getFlow(groupId, start, end));
+    }
+
+    @PostMapping("/groups/{groupId}/flow/rebuild")
+    public ResponseEntity<String> rebuildGroupFlow(@PathVariable Long groupId) {
+        Group group = groupService.getGroupById(groupId);
+        if (!group.getOwner().getId().equals(groupService.getCurrentUser().getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the owner can rebuild group charts");
+        }
+        taskFlowService.rebuild(groupId);
+        return ResponseEntity.ok("Flow rebuilt");
+    }
+
+    private List<StatsPoint> series(TaskDailyStat.Scope scope, Long scopeId, LocalDate from, LocalDate to,
+            String granularity) {
+        TaskStatsService.Granularity unit;
+        try {
+            unit = TaskStatsService.Granularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "granularity must be day, week or month");
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return taskStatsService.getSeries(scope, scopeId, start, end, unit);
+    }
+}
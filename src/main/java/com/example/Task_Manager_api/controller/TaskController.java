@@ -1,7 +1,14 @@
 package com.example.Task_Manager_api.controller;
 
+import com.example.Task_Manager_api.model.ArchivedTask;
 import com.example.Task_Manager_api.model.Task;
 import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.payload.CursorPage;
+import com.example.Task_Manager_api.payload.TaskChanges;
+import com.example.Task_Manager_api.payload.TaskMove;
+import com.example.Task_Manager_api.payload.TaskProgress;
+import com.example.Task_Manager_api.payload.TaskQuery;
+import com.example.Task_Manager_api.payload.TaskQueryPage;
 import com.example.Task_Manager_api.service.TaskService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -9,9 +16,11 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.validation.Valid;
 
 import java.util.List;
@@ -35,6 +44,29 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getAllTasks());
     }
 
+    // Incremental sync: only what changed since the token from the previous call
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChanges> getChanges(@RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(taskService.getChanges(since, limit));
+    }
+
+    // Server-Sent Events; reconnecting clients resume from the Last-Event-ID their EventSource sends
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return taskService.streamChanges(lastEventId);
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/archive")
+    public ResponseEntity<CursorPage<ArchivedTask>> getArchivedTasks(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.getArchivedTasks(cursor, size));
+    }
+
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
@@ -47,6 +79,12 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(id, task));
     }
 
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PatchMapping("/{id}/move")
+    public ResponseEntity<Task> moveTask(@PathVariable Long id, @RequestBody TaskMove move) {
+        return ResponseEntity.ok(taskService.moveTask(id, move));
+    }
+
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
@@ -115,9 +153,66 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getAllTasks(pageable));
     }
 
+    // Any combination of filters, e.g. ?status=TO_DO&status=IN_PROGRESS&priority=HIGH&sort=dueDate;
+    // pass the returned nextCursor back as ?cursor= for the following page
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/query")
+    public ResponseEntity<TaskQueryPage> queryTasks(@ModelAttribute TaskQuery query) {
+        return ResponseEntity.ok(taskService.queryTasks(query));
+    }
+
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @GetMapping("/group/{groupId}")
     public ResponseEntity<List<Task>> getTasksByGroup(@PathVariable Long groupId) {
         return ResponseEntity.ok(taskService.getTasksByGroup(groupId));
     }
-}
\ No newline at end of file
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PutMapping("/{id}/parent/{parentId}")
+    public ResponseEntity<Void> setParent(@PathVariable Long id, @PathVariable Long parentId) {
+        taskService.setParent(id, parentId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @DeleteMapping("/{id}/parent")
+    public ResponseEntity<Void> clearParent(@PathVariable Long id) {
+        taskService.clearParent(id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    // Direct children by default; all=true returns every descendant, shallowest first
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/{id}/subtasks")
+    public ResponseEntity<List<Task>> getSubtasks(@PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean all) {
+        return ResponseEntity.ok(taskService.getSubtasks(id, all));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<TaskProgress> getProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getProgress(id));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping("/{id}/blockers")
+    public ResponseEntity<List<Task>> getBlockers(@PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean transitive) {
+        return ResponseEntity.ok(taskService.getBlockers(id, transitive));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PutMapping("/{id}/blockers/{blockerId}")
+    public ResponseEntity<Void> addBlocker(@PathVariable Long id, @PathVariable Long blockerId) {
+        taskService.addBlocker(id, blockerId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @DeleteMapping("/{id}/blockers/{blockerId}")
+    public ResponseEntity<Void> removeBlocker(@PathVariable Long id, @PathVariable Long blockerId) {
+        taskService.removeBlocker(id, blockerId);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
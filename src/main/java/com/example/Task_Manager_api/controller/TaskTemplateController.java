@@ -0,0 +1,39 @@
+package com.example.Task_Manager_api.controller;
+
+import com.example.Task_Manager_api.model.TaskTemplate;
+import com.example.Task_Manager_api.service.TaskTemplateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import jakarta.validation.Valid;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/task-templates")
+public class TaskTemplateController {
+
+    @Autowired
+    private TaskTemplateService taskTemplateService;
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @PostMapping
+    public ResponseEntity<TaskTemplate> createTemplate(@Valid @RequestBody TaskTemplate template) {
+        return ResponseEntity.ok(taskTemplateService.createTemplate(template));
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @GetMapping
+    public ResponseEntity<List<TaskTemplate>> getMyTemplates() {
+        return ResponseEntity.ok(taskTemplateService.getMyTemplates());
+    }
+
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTemplate(@PathVariable Long id) {
+        taskTemplateService.deleteTemplate(id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
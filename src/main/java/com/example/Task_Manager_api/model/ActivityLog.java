@@ -3,7 +3,14 @@ package com.example.Task_Manager_api.model;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+// Partitioned by expires_at on MariaDB (see db/activity_logs_partitioning.sql), which is why the
+// associations below are declared without database foreign keys
 @Entity(name = "activity_logs")
+@Table(indexes = {
+        @Index(name = "idx_activity_task_time", columnList = "task_id, timestamp"),
+        @Index(name = "idx_activity_user_time", columnList = "user_id, timestamp"),
+        @Index(name = "idx_activity_expires", columnList = "expires_at")
+})
 public class ActivityLog {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,12 +25,17 @@ public class ActivityLog {
     @Column(nullable = false)
     private LocalDateTime timestamp;
 
+    // timestamp + retention for this type; the partitioning key
+    @Column(name = "expires_at", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private LocalDateTime expiresAt;
+
     @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @ManyToOne
-    @JoinColumn(name = "task_id", nullable = true) // Can be null if it's a general project activity
+    @JoinColumn(name = "task_id", nullable = true, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // Can be null if it's a general project activity
     private Task task;
 
     public ActivityLog() {
@@ -37,6 +49,13 @@ public class ActivityLog {
         this.timestamp = LocalDateTime.now();
     }
 
+    @PrePersist
+    protected void onCreate() {
+        if (expiresAt == null) {
+            expiresAt = timestamp.plusDays(365);
+        }
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -70,6 +89,14 @@ public class ActivityLog {
         this.timestamp = timestamp;
     }
 
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
     public User getUser() {
         return user;
     }
@@ -0,0 +1,57 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "archived_activity_logs", indexes = @Index(name = "idx_archived_activity_task", columnList = "task_id"))
+public class ArchivedActivityLog {
+    @Id
+    private Long id;
+
+    private String type;
+
+    @Column(length = 500)
+    private String description;
+
+    private LocalDateTime timestamp;
+
+    private LocalDateTime expiresAt;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    public ArchivedActivityLog() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "archived_comments", indexes = @Index(name = "idx_archived_comments_task", columnList = "task_id"))
+public class ArchivedComment {
+    @Id
+    private Long id;
+
+    @Column(length = 1000)
+    private String text;
+
+    private LocalDateTime createdAt;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    public ArchivedComment() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Cold copy of a completed task. Keeps the original id so a restore puts it back unchanged;
+// references are plain ids so archived rows never hold locks on the live tables.
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_user", columnList = "user_id"),
+        @Index(name = "idx_archived_tasks_assignee", columnList = "assigned_user_id"),
+        @Index(name = "idx_archived_tasks_group", columnList = "group_id")
+})
+public class ArchivedTask {
+    @Id
+    private Long id;
+
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    private LocalDate dueDate;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "assigned_user_id")
+    private Long assignedUserId;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private int commentCount;
+    private LocalDateTime lastCommentAt;
+
+    @Column(name = "board_rank", length = 64)
+    private String rank;
+
+    private LocalDateTime archivedAt;
+
+    public ArchivedTask() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public LocalDateTime getLastCommentAt() {
+        return lastCommentAt;
+    }
+
+    public String getRank() {
+        return rank;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
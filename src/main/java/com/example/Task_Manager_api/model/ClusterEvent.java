@@ -0,0 +1,55 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Shared outbox read by every API node; the identity column doubles as the delivery sequence
+@Entity
+@Table(name = "cluster_events", indexes = @Index(name = "idx_cluster_events_created", columnList = "createdAt"))
+public class ClusterEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String destination;
+
+    @Column(nullable = false, length = 8000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public ClusterEvent() {
+    }
+
+    public ClusterEvent(String nodeId, String destination, String payload) {
+        this.nodeId = nodeId;
+        this.destination = destination;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
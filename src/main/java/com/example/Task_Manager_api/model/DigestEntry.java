@@ -0,0 +1,73 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One line of a user's next digest email. Kept for a few days after sending so reminders aren't queued twice.
+@Entity
+@Table(name = "email_digest_entries", indexes = {
+        @Index(name = "idx_digest_pending", columnList = "sent_at, user_id"),
+        @Index(name = "idx_digest_task", columnList = "task_id, type")
+})
+public class DigestEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public DigestEntry() {
+    }
+
+    public DigestEntry(Long userId, String type, String message, Long taskId) {
+        this.userId = userId;
+        this.type = type;
+        this.message = message;
+        this.taskId = taskId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.Task_Manager_api.model;
+
+// How task emails reach a user: one per event, or collected into a daily digest
+public enum EmailDelivery {
+    IMMEDIATE,
+    DIGEST
+}
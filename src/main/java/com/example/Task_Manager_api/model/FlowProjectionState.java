@@ -0,0 +1,46 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Single-row checkpoint of the cumulative-flow projector; locked while a batch is applied
+@Entity
+@Table(name = "flow_projection_state")
+public class FlowProjectionState {
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    private long lastEventId;
+
+    private LocalDateTime updatedAt;
+
+    public FlowProjectionState() {
+    }
+
+    public FlowProjectionState(Long id) {
+        this.id = id;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public void setLastEventId(long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -23,6 +23,11 @@ public class Group {
     @JoinTable(name = "group_members", joinColumns = @JoinColumn(name = "group_id"), inverseJoinColumns = @JoinColumn(name = "user_id"))
     private Set<User> members = new HashSet<>();
 
+    // Set as soon as deletion is requested; dependent rows are purged in the background
+    @Column(nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private boolean deleted = false;
+
     public Group() {
     }
 
@@ -63,4 +68,12 @@ public class Group {
     public void setMembers(Set<User> members) {
         this.members = members;
     }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
 }
@@ -0,0 +1,125 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Progress of a background group purge; the phase is persisted so a restart resumes where it stopped
+@Entity
+@Table(name = "group_deletion_jobs")
+public class GroupDeletionJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long groupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Phase phase = Phase.TASKS;
+
+    private long totalTasks;
+    private long tasksDeleted;
+    private long invitationsDeleted;
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public enum Phase {
+        TASKS, ARCHIVED_TASKS, INVITATIONS, MEMBERSHIPS, GROUP, COMPLETED
+    }
+
+    public GroupDeletionJob() {
+    }
+
+    public GroupDeletionJob(Long groupId, long totalTasks) {
+        this.groupId = groupId;
+        this.totalTasks = totalTasks;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(Long groupId) {
+        this.groupId = groupId;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public void setPhase(Phase phase) {
+        this.phase = phase;
+    }
+
+    public long getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(long totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    public long getTasksDeleted() {
+        return tasksDeleted;
+    }
+
+    public void setTasksDeleted(long tasksDeleted) {
+        this.tasksDeleted = tasksDeleted;
+    }
+
+    public long getInvitationsDeleted() {
+        return invitationsDeleted;
+    }
+
+    public void setInvitationsDeleted(long invitationsDeleted) {
+        this.invitationsDeleted = invitationsDeleted;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// Tasks per status in a group at the end of a day. Only days with transitions have a row;
+// a day without one has the counts of the closest earlier row.
+@Entity
+@Table(name = "group_flow_days", uniqueConstraints = @UniqueConstraint(name = "uk_group_flow_days",
+        columnNames = { "group_id", "flow_date" }))
+public class GroupFlowDay {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "flow_date", nullable = false)
+    private LocalDate day;
+
+    private int toDo;
+
+    private int inProgress;
+
+    private int completed;
+
+    public GroupFlowDay() {
+    }
+
+    public GroupFlowDay(Long groupId, LocalDate day) {
+        this.groupId = groupId;
+        this.day = day;
+    }
+
+    // Starts a day from the end-of-day counts of an earlier one
+    public static GroupFlowDay carriedFrom(GroupFlowDay previous, Long groupId, LocalDate day) {
+        GroupFlowDay row = new GroupFlowDay(groupId, day);
+        if (previous != null) {
+            row.toDo = previous.toDo;
+            row.inProgress = previous.inProgress;
+            row.completed = previous.completed;
+        }
+        return row;
+    }
+
+    public void add(int toDoDelta, int inProgressDelta, int completedDelta) {
+        toDo += toDoDelta;
+        inProgress += inProgressDelta;
+        completed += completedDelta;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getToDo() {
+        return toDo;
+    }
+
+    public int getInProgress() {
+        return inProgress;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+}
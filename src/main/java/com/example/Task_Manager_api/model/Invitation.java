@@ -2,9 +2,12 @@ package com.example.Task_Manager_api.model;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "invitations")
+// Emails are stored lower-cased so the unique key also catches differently-cased duplicates
+@Table(name = "invitations", uniqueConstraints = @UniqueConstraint(name = "uk_invitations_group_email",
+        columnNames = { "group_id", "email" }))
 public class Invitation {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,7 +33,7 @@ public class Invitation {
     }
 
     public Invitation(String email, Group group) {
-        this.email = email;
+        setEmail(email);
         this.group = group;
         this.invitedAt = LocalDateTime.now();
     }
@@ -48,7 +51,7 @@ public class Invitation {
     }
 
     public void setEmail(String email) {
-        this.email = email;
+        this.email = email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 
     public Group getGroup() {
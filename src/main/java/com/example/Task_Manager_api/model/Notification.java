@@ -0,0 +1,83 @@
+package com.example.Task_Manager_api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// One entry in a user's inbox. Task and group are plain ids: the entry outlives them.
+@Entity
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user", columnList = "user_id, id"),
+        @Index(name = "idx_notifications_unread", columnList = "user_id, is_read")
+})
+public class Notification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String type;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public Notification() {
+    }
+
+    public Notification(Long userId, String type, String message, Long taskId, Long groupId) {
+        this.userId = userId;
+        this.type = type;
+        this.message = message;
+        this.taskId = taskId;
+        this.groupId = groupId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
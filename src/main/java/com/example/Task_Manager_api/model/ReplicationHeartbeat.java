@@ -0,0 +1,27 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Single row rewritten on the primary every few seconds; how old it looks on a replica is
+// that replica's lag (see ReplicaRoutingDataSource)
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime beatAt;
+
+    public ReplicationHeartbeat() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getBeatAt() {
+        return beatAt;
+    }
+}
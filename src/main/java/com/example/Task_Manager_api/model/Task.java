@@ -7,6 +7,15 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
 @Entity
+// Query orders default to newest first within an owner, assignee or group
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_task_assignee_created", columnList = "assigned_user_id, created_at"),
+        @Index(name = "idx_task_group_created", columnList = "group_id, created_at"),
+        @Index(name = "idx_task_group_rank", columnList = "group_id, status, board_rank"),
+        @Index(name = "idx_task_change_seq", columnList = "change_seq")
+})
+@EntityListeners(com.example.Task_Manager_api.service.TaskChangeListener.class)
 @com.fasterxml.jackson.annotation.JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Task {
     @Id
@@ -44,6 +53,30 @@ public class Task {
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
 
+    // Maintained by CommentService so task lists can show thread activity without a count query.
+    // Only its bulk UPDATE writes these; entity saves would otherwise put back a stale loaded count
+    @Column(nullable = false, updatable = false)
+    @com.fasterxml.jackson.annotation.JsonProperty(access = com.fasterxml.jackson.annotation.JsonProperty.Access.READ_ONLY)
+    private int commentCount = 0;
+
+    @Column(updatable = false)
+    @com.fasterxml.jackson.annotation.JsonProperty(access = com.fasterxml.jackson.annotation.JsonProperty.Access.READ_ONLY)
+    private LocalDateTime lastCommentAt;
+
+    // Position within its board column (see FractionalRank); changed only through the move endpoint
+    @Column(name = "board_rank", length = 64)
+    @com.fasterxml.jackson.annotation.JsonProperty(access = com.fasterxml.jackson.annotation.JsonProperty.Access.READ_ONLY)
+    private String rank;
+
+    // Position in the change feed (GET /api/tasks/changes), renewed on every write by TaskChangeListener
+    @Column(name = "change_seq")
+    @com.fasterxml.jackson.annotation.JsonProperty(access = com.fasterxml.jackson.annotation.JsonProperty.Access.READ_ONLY)
+    private Long changeSeq;
+
+    @Column(name = "changed_at")
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private LocalDateTime changedAt;
+
     public Task() {
     }
 
@@ -135,4 +168,44 @@ public class Task {
         this.completedAt = completedAt;
     }
 
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(int commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public LocalDateTime getLastCommentAt() {
+        return lastCommentAt;
+    }
+
+    public void setLastCommentAt(LocalDateTime lastCommentAt) {
+        this.lastCommentAt = lastCommentAt;
+    }
+
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
 }
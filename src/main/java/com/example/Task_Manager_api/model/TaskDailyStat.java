@@ -0,0 +1,117 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// One row per user or group per day. Counters are bumped from TaskService writes and
+// recomputed nightly from the task tables; overdue is an end-of-day snapshot.
+@Entity
+@Table(name = "task_daily_stats", uniqueConstraints = @UniqueConstraint(name = "uk_task_daily_stats",
+        columnNames = { "scope", "scope_id", "stat_date" }))
+public class TaskDailyStat {
+
+    public enum Scope {
+        USER,
+        GROUP
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Scope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate day;
+
+    private int created;
+
+    private int completed;
+
+    private int reopened;
+
+    private int overdue;
+
+    // Sum of createdAt -> completedAt over the completions that had a createdAt
+    private long leadTimeSeconds;
+
+    private int leadTimeSamples;
+
+    public TaskDailyStat() {
+    }
+
+    public TaskDailyStat(Scope scope, Long scopeId, LocalDate day) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.day = day;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public int getReopened() {
+        return reopened;
+    }
+
+    public void setReopened(int reopened) {
+        this.reopened = reopened;
+    }
+
+    public int getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(int overdue) {
+        this.overdue = overdue;
+    }
+
+    public long getLeadTimeSeconds() {
+        return leadTimeSeconds;
+    }
+
+    public void setLeadTimeSeconds(long leadTimeSeconds) {
+        this.leadTimeSeconds = leadTimeSeconds;
+    }
+
+    public int getLeadTimeSamples() {
+        return leadTimeSamples;
+    }
+
+    public void setLeadTimeSamples(int leadTimeSamples) {
+        this.leadTimeSamples = leadTimeSamples;
+    }
+}
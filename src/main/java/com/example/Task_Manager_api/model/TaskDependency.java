@@ -0,0 +1,66 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+
+// Closure of "blocked by": taskId cannot complete while blockerId is open. paths counts the
+// distinct routes from one to the other so removing an edge only drops pairs it alone connected;
+// direct marks the edges users added.
+@Entity
+@Table(name = "task_dependencies", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_dependency", columnNames = { "task_id", "blocker_id" })
+}, indexes = {
+        @Index(name = "idx_task_dependency_blocker", columnList = "blocker_id")
+})
+public class TaskDependency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    @Column(nullable = false)
+    private long paths;
+
+    @Column(nullable = false)
+    private boolean direct;
+
+    public TaskDependency() {
+    }
+
+    public TaskDependency(Long taskId, Long blockerId) {
+        this.taskId = taskId;
+        this.blockerId = blockerId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getBlockerId() {
+        return blockerId;
+    }
+
+    public long getPaths() {
+        return paths;
+    }
+
+    public void setPaths(long paths) {
+        this.paths = paths;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public void setDirect(boolean direct) {
+        this.direct = direct;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Append-only log of status transitions. fromStatus is null when a task enters a group
+// (created or moved in), toStatus is null when it leaves (deleted or moved out).
+@Entity
+@Table(name = "task_status_events", indexes = {
+        @Index(name = "idx_status_events_group", columnList = "group_id, id"),
+        @Index(name = "idx_status_events_task", columnList = "task_id")
+})
+public class TaskStatusEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 12)
+    private TaskStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 12)
+    private TaskStatus toStatus;
+
+    // When the transition happened (historical for seeded events)
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    // When the row was written; the projector waits for slower transactions using this
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+
+    public TaskStatusEvent() {
+    }
+
+    public TaskStatusEvent(Long taskId, Long groupId, TaskStatus fromStatus, TaskStatus toStatus) {
+        this.taskId = taskId;
+        this.groupId = groupId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = LocalDateTime.now();
+        this.recordedAt = this.occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public TaskStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public TaskStatus getToStatus() {
+        return toStatus;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.Task_Manager_api.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// A recurring task. Only one occurrence exists at a time (currentTaskId); nextDueDate is the
+// due date the following one will get, null once the rule has run out.
+@Entity
+@Table(name = "task_templates", indexes = {
+        @Index(name = "idx_task_templates_due", columnList = "active, next_due_date"),
+        @Index(name = "idx_task_templates_current", columnList = "current_task_id"),
+        @Index(name = "idx_task_templates_user", columnList = "user_id"),
+        @Index(name = "idx_task_templates_group", columnList = "group_id")
+})
+public class TaskTemplate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Title is required")
+    @Size(min = 3, message = "Title must be at least 3 characters long")
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    // RRULE subset, see RecurrenceRule
+    @NotBlank(message = "Recurrence rule is required")
+    @Column(nullable = false)
+    private String rrule;
+
+    @NotNull(message = "Start date is required")
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "user_id", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long userId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "assigned_user_id")
+    private Long assignedUserId;
+
+    @Column(name = "current_task_id")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long currentTaskId;
+
+    @Column(name = "next_due_date")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDate nextDueDate;
+
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int occurrences;
+
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private boolean active = true;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    public TaskTemplate() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public String getRrule() {
+        return rrule;
+    }
+
+    public void setRrule(String rrule) {
+        this.rrule = rrule;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(Long groupId) {
+        this.groupId = groupId;
+    }
+
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public void setAssignedUserId(Long assignedUserId) {
+        this.assignedUserId = assignedUserId;
+    }
+
+    public Long getCurrentTaskId() {
+        return currentTaskId;
+    }
+
+    public void setCurrentTaskId(Long currentTaskId) {
+        this.currentTaskId = currentTaskId;
+    }
+
+    public LocalDate getNextDueDate() {
+        return nextDueDate;
+    }
+
+    public void setNextDueDate(LocalDate nextDueDate) {
+        this.nextDueDate = nextDueDate;
+    }
+
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    public void setOccurrences(int occurrences) {
+        this.occurrences = occurrences;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// A task left the change feed's scope: deleted, archived, or moved away from the owner, assignee
+// and group recorded here. Keyed by its position in the feed; purged after the token retention.
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_task", columnList = "task_id"),
+        @Index(name = "idx_task_tombstones_deleted", columnList = "deleted_at")
+})
+public class TaskTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_change_seq")
+    @SequenceGenerator(name = "task_change_seq", sequenceName = "task_change_seq", allocationSize = 1)
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "assigned_user_id")
+    private Long assignedUserId;
+
+    @Column(name = "group_id")
+    private Long groupId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public TaskTombstone() {
+    }
+
+    public TaskTombstone(Long taskId, Long userId, Long assignedUserId, Long groupId) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.assignedUserId = assignedUserId;
+        this.groupId = groupId;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.Task_Manager_api.model;
+
+import jakarta.persistence.*;
+
+// Closure of the subtask tree: one row per (ancestor, descendant) pair, depth 1 being the
+// direct parent. Tasks in a tree also have a depth 0 row to themselves.
+@Entity
+@Table(name = "task_tree_paths", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_tree_path", columnNames = { "ancestor_id", "descendant_id" })
+}, indexes = {
+        @Index(name = "idx_task_tree_descendant", columnList = "descendant_id, depth")
+})
+public class TaskTreePath {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    public TaskTreePath() {
+    }
+
+    public TaskTreePath(Long ancestorId, Long descendantId, int depth) {
+        this.ancestorId = ancestorId;
+        this.descendantId = descendantId;
+        this.depth = depth;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAncestorId() {
+        return ancestorId;
+    }
+
+    public Long getDescendantId() {
+        return descendantId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
@@ -22,6 +22,11 @@ public class User {
     @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "role")
     private Set<String> roles;
+    // Null for accounts created before the preference existed
+    @Enumerated(EnumType.STRING)
+    @Column(name = "email_delivery", length = 16)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private EmailDelivery emailDelivery;
 
     public User() {
     }
@@ -73,4 +78,12 @@ public class User {
     public void setRoles(Set<String> roles) {
         this.roles = roles;
     }
+
+    public EmailDelivery getEmailDelivery() {
+        return emailDelivery != null ? emailDelivery : EmailDelivery.IMMEDIATE;
+    }
+
+    public void setEmailDelivery(EmailDelivery emailDelivery) {
+        this.emailDelivery = emailDelivery;
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.Task_Manager_api.payload;
+
+import java.util.List;
+
+// Outcome of a bulk invite, one entry per address in request order
+public class BulkInvitationResult {
+
+    public enum Status {
+        INVITED,
+        // Invitation stored and visible in the app, but the email could not be delivered
+        EMAIL_FAILED,
+        ALREADY_INVITED,
+        ALREADY_MEMBER,
+        DUPLICATE,
+        INVALID
+    }
+
+    public static class Item {
+        private String email;
+        private Status status;
+
+        public Item(String email, Status status) {
+            this.email = email;
+            this.status = status;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public void setStatus(Status status) {
+            this.status = status;
+        }
+    }
+
+    private List<Item> results;
+
+    public BulkInvitationResult(List<Item> results) {
+        this.results = results;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    public long getInvited() {
+        return results.stream()
+                .filter(item -> item.getStatus() == Status.INVITED || item.getStatus() == Status.EMAIL_FAILED)
+                .count();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Task_Manager_api.payload;
+
+public class CommentEvent {
+    private String type = "COMMENT_ADDED";
+    private Long taskId;
+    private int commentCount;
+    private CommentView comment;
+
+    public CommentEvent(Long taskId, int commentCount, CommentView comment) {
+        this.taskId = taskId;
+        this.commentCount = commentCount;
+        this.comment = comment;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public int getCommentCount() {
+        return commentCount;
+    }
+
+    public CommentView getComment() {
+        return comment;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.Task_Manager_api.payload;
+
+import java.time.LocalDateTime;
+
+// Read model for comment threads, built by a JPQL constructor expression so the
+// author is projected from the join instead of loading a full User entity.
+public class CommentView {
+    private Long id;
+    private String text;
+    private LocalDateTime createdAt;
+    private UserSummary author;
+
+    public CommentView(Long id, String text, LocalDateTime createdAt, Long authorId, String authorUsername) {
+        this.id = id;
+        this.text = text;
+        this.createdAt = createdAt;
+        this.author = new UserSummary(authorId, authorUsername);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UserSummary getAuthor() {
+        return author;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.Task_Manager_api.payload;
+
+import java.util.List;
+
+// A slice of results plus the cursor to pass back for the next slice (null when exhausted).
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+
+    public CursorPage(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
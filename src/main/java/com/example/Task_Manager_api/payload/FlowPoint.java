@@ -0,0 +1,38 @@
+package com.example.Task_Manager_api.payload;
+
+import java.time.LocalDate;
+
+// Cumulative-flow counts for one day; remaining (to do + in progress) is the burndown line
+public class FlowPoint {
+    private LocalDate day;
+    private int toDo;
+    private int inProgress;
+    private int completed;
+
+    public FlowPoint(LocalDate day, int toDo, int inProgress, int completed) {
+        this.day = day;
+        this.toDo = toDo;
+        this.inProgress = inProgress;
+        this.completed = completed;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public int getToDo() {
+        return toDo;
+    }
+
+    public int getInProgress() {
+        return inProgress;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public int getRemaining() {
+        return toDo + inProgress;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.Task_Manager_api.payload;
+
+// One (group, member) pair from group_members
+public class GroupMemberRow {
+    private Long groupId;
+    private Long userId;
+    private String username;
+
+    public GroupMemberRow(Long groupId, Long userId, String username) {
+        this.groupId = groupId;
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
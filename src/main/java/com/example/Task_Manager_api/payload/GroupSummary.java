@@ -0,0 +1,40 @@
+package com.example.Task_Manager_api.payload;
+
+import java.util.List;
+
+// Group as shown in lists and headers: members is capped, memberCount is the full size
+public class GroupSummary {
+    private Long id;
+    private String name;
+    private UserSummary owner;
+    private int memberCount;
+    private List<UserSummary> members;
+
+    public GroupSummary(Long id, String name, UserSummary owner, int memberCount, List<UserSummary> members) {
+        this.id = id;
+        this.name = name;
+        this.owner = owner;
+        this.memberCount = memberCount;
+        this.members = members;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UserSummary getOwner() {
+        return owner;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public List<UserSummary> getMembers() {
+        return members;
+    }
+}
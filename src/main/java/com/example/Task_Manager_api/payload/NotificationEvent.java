@@ -0,0 +1,28 @@
+package com.example.Task_Manager_api.payload;
+
+import com.example.Task_Manager_api.model.Notification;
+
+// Pushed to /user/queue/notifications: a new entry, or just the new count after entries were read
+public class NotificationEvent {
+    private String type;
+    private Notification notification;
+    private long unreadCount;
+
+    public NotificationEvent(Notification notification, long unreadCount) {
+        this.type = notification != null ? "NOTIFICATION" : "UNREAD_COUNT";
+        this.notification = notification;
+        this.unreadCount = unreadCount;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Notification getNotification() {
+        return notification;
+    }
+
+    public long getUnreadCount() {
+        return unreadCount;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.Task_Manager_api.payload;
+
+import java.time.LocalDate;
+
+// One bucket of a stats time series; overdue is the value on the last day of the bucket
+public class StatsPoint {
+    private LocalDate periodStart;
+    private long created;
+    private long completed;
+    private long reopened;
+    private long overdue;
+    private Double avgLeadTimeHours;
+
+    public StatsPoint(LocalDate periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(long created) {
+        this.created = created;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getReopened() {
+        return reopened;
+    }
+
+    public void setReopened(long reopened) {
+        this.reopened = reopened;
+    }
+
+    public long getOverdue() {
+        return overdue;
+    }
+
+    public void setOverdue(long overdue) {
+        this.overdue = overdue;
+    }
+
+    public Double getAvgLeadTimeHours() {
+        return avgLeadTimeHours;
+    }
+
+    public void setAvgLeadTimeHours(Double avgLeadTimeHours) {
+        this.avgLeadTimeHours = avgLeadTimeHours;
+    }
+}
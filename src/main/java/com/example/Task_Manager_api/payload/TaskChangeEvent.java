@@ -0,0 +1,20 @@
+package com.example.Task_Manager_api.payload;
+
+import java.util.Set;
+
+public class TaskChangeEvent {
+    private String type = "TASKS_CHANGED";
+    private Set<Long> taskIds;
+
+    public TaskChangeEvent(Set<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Set<Long> getTaskIds() {
+        return taskIds;
+    }
+}
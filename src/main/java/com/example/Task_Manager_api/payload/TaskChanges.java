@@ -0,0 +1,46 @@
+package com.example.Task_Manager_api.payload;
+
+import com.example.Task_Manager_api.model.Task;
+
+import java.util.List;
+
+/**
+ * One page of GET /api/tasks/changes. Apply deletedIds first, then upsert
+ * tasks; when full is set, clear the local copy before applying. Pass token
+ * back as since; hasMore means another page is ready right away.
+ */
+public class TaskChanges {
+    private List<Task> tasks;
+    private List<Long> deletedIds;
+    private String token;
+    private boolean full;
+    private boolean hasMore;
+
+    public TaskChanges(List<Task> tasks, List<Long> deletedIds, String token, boolean full, boolean hasMore) {
+        this.tasks = tasks;
+        this.deletedIds = deletedIds;
+        this.token = token;
+        this.full = full;
+        this.hasMore = hasMore;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public boolean isFull() {
+        return full;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+}
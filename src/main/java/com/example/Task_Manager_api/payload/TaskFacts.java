@@ -0,0 +1,54 @@
+package com.example.Task_Manager_api.payload;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// The columns the stats backfill needs from a live or archived task
+public class TaskFacts {
+    private Long id;
+    private Long userId;
+    private Long groupId;
+    private Long assignedUserId;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private LocalDate dueDate;
+
+    public TaskFacts(Long id, Long userId, Long groupId, Long assignedUserId, LocalDateTime createdAt,
+            LocalDateTime completedAt, LocalDate dueDate) {
+        this.id = id;
+        this.userId = userId;
+        this.groupId = groupId;
+        this.assignedUserId = assignedUserId;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+        this.dueDate = dueDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public Long getAssignedUserId() {
+        return assignedUserId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+}
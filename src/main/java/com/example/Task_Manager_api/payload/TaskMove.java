@@ -0,0 +1,25 @@
+package com.example.Task_Manager_api.payload;
+
+import com.example.Task_Manager_api.model.TaskStatus;
+
+// Body of PATCH /api/tasks/{id}/move: the target column and the card to land under (null for the top)
+public class TaskMove {
+    private TaskStatus status;
+    private Long afterId;
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+}
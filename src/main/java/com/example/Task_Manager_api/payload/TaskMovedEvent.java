@@ -0,0 +1,39 @@
+package com.example.Task_Manager_api.payload;
+
+import com.example.Task_Manager_api.model.TaskStatus;
+
+// Carries the new position so boards can apply a move without refetching
+public class TaskMovedEvent {
+    private String type = "TASK_MOVED";
+    private Long taskId;
+    private Long groupId;
+    private TaskStatus status;
+    private String rank;
+
+    public TaskMovedEvent(Long taskId, Long groupId, TaskStatus status, String rank) {
+        this.taskId = taskId;
+        this.groupId = groupId;
+        this.status = status;
+        this.rank = rank;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public String getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.Task_Manager_api.payload;
+
+// Roll-up of all subtasks below a task, however deep
+public class TaskProgress {
+    private Long taskId;
+    private long total;
+    private long completed;
+
+    public TaskProgress(Long taskId, long total, long completed) {
+        this.taskId = taskId;
+        this.total = total;
+        this.completed = completed;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public double getPercent() {
+        return total == 0 ? 0 : completed * 100.0 / total;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.Task_Manager_api.payload;
+
+import com.example.Task_Manager_api.model.Task;
+
+import java.util.List;
+
+// Like CursorPage, but the cursor is opaque: it carries the sort key as well as the id
+public class TaskQueryPage {
+    private List<Task> items;
+    private String nextCursor;
+
+    public TaskQueryPage(List<Task> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Task> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
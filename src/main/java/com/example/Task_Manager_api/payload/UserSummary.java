@@ -0,0 +1,19 @@
+package com.example.Task_Manager_api.payload;
+
+public class UserSummary {
+    private Long id;
+    private String username;
+
+    public UserSummary(Long id, String username) {
+        this.id = id;
+        this.username = username;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+}
@@ -5,15 +5,41 @@ import com.example.Task_Manager_api.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
 
+    // Every query bounds expiresAt so MariaDB only touches the partitions that can match:
+    // [expiresFrom, expiresTo] is derived from the time window and the retention range.
+
     // Find activities related to tasks the user owns or is assigned to
-    @Query("SELECT a FROM activity_logs a WHERE a.task.user = :user OR a.task.assignedUser = :user ORDER BY a.timestamp DESC")
-    Page<ActivityLog> findByUserRelatedActivities(@Param("user") User user, Pageable pageable);
+    @Query("SELECT a FROM activity_logs a WHERE (a.task.user = :user OR a.task.assignedUser = :user) "
+            + "AND a.timestamp >= :since AND a.expiresAt BETWEEN :expiresFrom AND :expiresTo ORDER BY a.timestamp DESC")
+    Page<ActivityLog> findByUserRelatedActivities(@Param("user") User user, @Param("since") LocalDateTime since,
+            @Param("expiresFrom") LocalDateTime expiresFrom, @Param("expiresTo") LocalDateTime expiresTo,
+            Pageable pageable);
 
     // Find activities for a specific task
-    Page<ActivityLog> findByTaskIdOrderByTimestampDesc(Long taskId, Pageable pageable);
+    @Query("SELECT a FROM activity_logs a WHERE a.task.id = :taskId "
+            + "AND a.expiresAt BETWEEN :expiresFrom AND :expiresTo ORDER BY a.timestamp DESC")
+    Page<ActivityLog> findTaskActivities(@Param("taskId") Long taskId,
+            @Param("expiresFrom") LocalDateTime expiresFrom, @Param("expiresTo") LocalDateTime expiresTo,
+            Pageable pageable);
+
+    // Fallback retention for databases without partitioning
+    @Query("SELECT a.id FROM activity_logs a WHERE a.expiresAt < :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM activity_logs a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM activity_logs a WHERE a.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") List<Long> taskIds);
 }
@@ -0,0 +1,92 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.ArchivedTask;
+import com.example.Task_Manager_api.payload.TaskFacts;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Archive storage plus the set-based statements that move rows between the
+ * live and archive tables. Column lists must be kept in step with Task,
+ * Comment and ActivityLog.
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    // change_seq and changed_at are not archived: a restored task gets a new position in the change feed
+    String TASK_COLUMNS = "id, title, description, status, priority, due_date, user_id, group_id, "
+            + "assigned_user_id, created_at, completed_at, comment_count, last_comment_at, board_rank";
+    String COMMENT_COLUMNS = "id, text, created_at, user_id, task_id";
+    String ACTIVITY_COLUMNS = "id, type, description, timestamp, expires_at, user_id, task_id";
+
+    @Query("SELECT a FROM ArchivedTask a WHERE (a.userId = :userId OR a.assignedUserId = :userId) "
+            + "AND a.id < :cursor ORDER BY a.id DESC")
+    List<ArchivedTask> findPageForUser(@Param("userId") Long userId, @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    // Live -> archive
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_tasks (" + TASK_COLUMNS + ", archived_at) SELECT " + TASK_COLUMNS
+            + ", :archivedAt FROM task WHERE id IN (:ids)", nativeQuery = true)
+    int archiveTasks(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_comments (" + COMMENT_COLUMNS + ") SELECT " + COMMENT_COLUMNS
+            + " FROM comments WHERE task_id IN (:ids)", nativeQuery = true)
+    int archiveComments(@Param("ids") List<Long> taskIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_activity_logs (" + ACTIVITY_COLUMNS + ") SELECT " + ACTIVITY_COLUMNS
+            + " FROM activity_logs WHERE task_id IN (:ids)", nativeQuery = true)
+    int archiveActivityLogs(@Param("ids") List<Long> taskIds);
+
+    // Archive -> live
+
+    @Modifying
+    @Query(value = "INSERT INTO task (" + TASK_COLUMNS + ") SELECT " + TASK_COLUMNS
+            + " FROM archived_tasks WHERE id = :id", nativeQuery = true)
+    int restoreTask(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "INSERT INTO comments (" + COMMENT_COLUMNS + ") SELECT " + COMMENT_COLUMNS
+            + " FROM archived_comments WHERE task_id = :id", nativeQuery = true)
+    int restoreComments(@Param("id") Long taskId);
+
+    @Modifying
+    @Query(value = "INSERT INTO activity_logs (" + ACTIVITY_COLUMNS + ") SELECT " + ACTIVITY_COLUMNS
+            + " FROM archived_activity_logs WHERE task_id = :id", nativeQuery = true)
+    int restoreActivityLogs(@Param("id") Long taskId);
+
+    @Modifying
+    @Query(value = "DELETE FROM archived_comments WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteArchivedComments(@Param("ids") List<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM archived_activity_logs WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteArchivedActivityLogs(@Param("ids") List<Long> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM archived_tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteArchivedTasks(@Param("ids") List<Long> ids);
+
+    // Same selection as TaskRepository.findStatFacts; archived tasks are always completed
+    @Query("SELECT new com.example.Task_Manager_api.payload.TaskFacts(a.id, a.userId, a.groupId, a.assignedUserId, "
+            + "a.createdAt, a.completedAt, a.dueDate) FROM ArchivedTask a "
+            + "WHERE a.id > :cursor AND ((a.createdAt >= :start AND a.createdAt < :end) "
+            + "OR (a.completedAt >= :start AND a.completedAt < :end) "
+            + "OR (a.dueDate < :lastDay AND a.completedAt >= :start)) ORDER BY a.id")
+    List<TaskFacts> findStatFacts(@Param("cursor") Long cursor, @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end, @Param("lastDay") LocalDate lastDay, Pageable pageable);
+
+    @Query("SELECT a.id FROM ArchivedTask a WHERE a.groupId = :groupId")
+    List<Long> findIdsByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+}
@@ -1,9 +1,23 @@
 package com.example.Task_Manager_api.repository;
 
 import com.example.Task_Manager_api.model.Comment;
+import com.example.Task_Manager_api.payload.CommentView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByTaskIdOrderByCreatedAtAsc(Long taskId);
+
+    // Keyset page of a task's thread; ids are monotonic so they double as the cursor
+    @Query("SELECT new com.example.Task_Manager_api.payload.CommentView(c.id, c.text, c.createdAt, a.id, a.username) "
+            + "FROM Comment c JOIN c.author a WHERE c.task.id = :taskId AND c.id > :cursor ORDER BY c.id ASC")
+    List<CommentView> findThreadPage(@Param("taskId") Long taskId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") List<Long> taskIds);
 }
@@ -0,0 +1,48 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.DigestEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DigestEntryRepository extends JpaRepository<DigestEntry, Long> {
+
+    // "userId:taskId" pairs already queued with this type since the given time, sent or not
+    @Query("SELECT CONCAT(e.userId, ':', e.taskId) FROM DigestEntry e "
+            + "WHERE e.type = :type AND e.taskId IN :taskIds AND e.createdAt >= :since")
+    List<String> findQueuedPairs(@Param("type") String type, @Param("taskIds") Collection<Long> taskIds,
+            @Param("since") LocalDateTime since);
+
+    // Recipients with something to send, in id order so the job can page through them
+    @Query("SELECT DISTINCT e.userId FROM DigestEntry e WHERE e.sentAt IS NULL AND e.userId > :after "
+            + "ORDER BY e.userId")
+    List<Long> findPendingRecipients(@Param("after") Long after, Pageable pageable);
+
+    // Everything pending for a page of recipients, grouped by recipient; locked so only one node sends it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM DigestEntry e WHERE e.sentAt IS NULL AND e.userId IN :userIds ORDER BY e.userId, e.id")
+    List<DigestEntry> findPendingForUpdate(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("UPDATE DigestEntry e SET e.sentAt = :sentAt WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE DigestEntry e SET e.sentAt = NULL WHERE e.id IN :ids")
+    int markUnsent(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT e.id FROM DigestEntry e WHERE e.sentAt < :cutoff")
+    List<Long> findSentBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DigestEntry e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
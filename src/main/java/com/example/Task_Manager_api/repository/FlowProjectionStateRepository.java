@@ -0,0 +1,18 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.FlowProjectionState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface FlowProjectionStateRepository extends JpaRepository<FlowProjectionState, Long> {
+
+    // Serializes projector batches and rebuilds across nodes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM FlowProjectionState s WHERE s.id = :id")
+    Optional<FlowProjectionState> findForUpdate(@Param("id") Long id);
+}
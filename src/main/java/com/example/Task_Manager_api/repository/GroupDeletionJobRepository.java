@@ -0,0 +1,15 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.GroupDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GroupDeletionJobRepository extends JpaRepository<GroupDeletionJob, Long> {
+    Optional<GroupDeletionJob> findByGroupId(Long groupId);
+
+    List<GroupDeletionJob> findByPhaseNot(GroupDeletionJob.Phase phase);
+}
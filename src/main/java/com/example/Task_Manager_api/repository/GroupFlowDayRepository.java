@@ -0,0 +1,36 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.GroupFlowDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface GroupFlowDayRepository extends JpaRepository<GroupFlowDay, Long> {
+
+    Optional<GroupFlowDay> findByGroupIdAndDay(Long groupId, LocalDate day);
+
+    Optional<GroupFlowDay> findFirstByGroupIdAndDayLessThanOrderByDayDesc(Long groupId, LocalDate day);
+
+    // Rows in [from, to] plus the last row before from, which seeds the first days of the range
+    @Query("SELECT f FROM GroupFlowDay f WHERE f.groupId = :groupId AND f.day <= :to AND f.day >= "
+            + "COALESCE((SELECT MAX(p.day) FROM GroupFlowDay p WHERE p.groupId = :groupId AND p.day <= :from), :from) "
+            + "ORDER BY f.day")
+    List<GroupFlowDay> findSeries(@Param("groupId") Long groupId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // A late transition also changes the end-of-day counts of every later day
+    @Modifying
+    @Query("UPDATE GroupFlowDay f SET f.toDo = f.toDo + :toDo, f.inProgress = f.inProgress + :inProgress, "
+            + "f.completed = f.completed + :completed WHERE f.groupId = :groupId AND f.day > :day")
+    int addToLaterDays(@Param("groupId") Long groupId, @Param("day") LocalDate day, @Param("toDo") int toDo,
+            @Param("inProgress") int inProgress, @Param("completed") int completed);
+
+    @Modifying
+    @Query("DELETE FROM GroupFlowDay f WHERE f.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+}
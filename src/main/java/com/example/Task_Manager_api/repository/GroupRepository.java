@@ -2,14 +2,41 @@ package com.example.Task_Manager_api.repository;
 
 import com.example.Task_Manager_api.model.Group;
 import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.GroupMemberRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GroupRepository extends JpaRepository<Group, Long> {
     List<Group> findByOwner(User owner);
 
-    List<Group> findByMembersContaining(User user);
+    List<Group> findByMembersContainingAndDeletedFalse(User user);
+
+    @Query("SELECT g.id FROM Group g JOIN g.members m WHERE m.id = :userId AND g.deleted = false ORDER BY g.id")
+    List<Long> findActiveGroupIdsByMemberId(@Param("userId") Long userId);
+
+    @Query("SELECT g FROM Group g JOIN FETCH g.owner WHERE g.id IN :ids AND g.deleted = false")
+    List<Group> findActiveWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.example.Task_Manager_api.payload.GroupMemberRow(g.id, m.id, m.username) "
+            + "FROM Group g JOIN g.members m WHERE g.id IN :ids ORDER BY g.id, m.username")
+    List<GroupMemberRow> findMemberRows(@Param("ids") Collection<Long> ids);
+
+    // Serializes with GroupService.deleteGroup, which updates the same row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Group g WHERE g.id = :id")
+    Optional<Group> findForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM group_members WHERE group_id = :groupId", nativeQuery = true)
+    int deleteMemberships(@Param("groupId") Long groupId);
 }
@@ -1,9 +1,15 @@
 package com.example.Task_Manager_api.repository;
 
 import com.example.Task_Manager_api.model.Invitation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +21,18 @@ public interface InvitationRepository extends JpaRepository<Invitation, Long> {
 
     Optional<Invitation> findByEmailAndGroupId(String email, Long groupId);
 
-    void deleteByGroupId(Long groupId);
+    // Which of a bulk insert's rows it actually wrote: INSERT IGNORE leaves existing rows, and their invitedAt, alone
+    @Query("SELECT i.email FROM Invitation i WHERE i.group.id = :groupId AND i.email IN :emails AND i.invitedAt = :invitedAt")
+    List<String> findEmailsInvitedAt(@Param("groupId") Long groupId, @Param("emails") Collection<String> emails,
+            @Param("invitedAt") LocalDateTime invitedAt);
+
+    @Query("SELECT LOWER(m.email) FROM Group g JOIN g.members m WHERE g.id = :groupId AND LOWER(m.email) IN :emails")
+    List<String> findMemberEmails(@Param("groupId") Long groupId, @Param("emails") Collection<String> emails);
+
+    @Query("SELECT i.id FROM Invitation i WHERE i.group.id = :groupId")
+    List<Long> findIdsByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Invitation i WHERE i.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
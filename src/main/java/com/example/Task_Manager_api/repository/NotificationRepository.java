@@ -0,0 +1,36 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // Newest first; ids are monotonic so they double as the cursor
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findInboxPage(@Param("userId") Long userId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.read = false")
+    long countUnread(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.id IN :ids AND n.read = false")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.read = true WHERE n.userId = :userId AND n.read = false")
+    int markAllRead(@Param("userId") Long userId);
+
+    // "userId:taskId" pairs already notified with this type since the given time
+    @Query("SELECT CONCAT(n.userId, ':', n.taskId) FROM Notification n "
+            + "WHERE n.type = :type AND n.taskId IN :taskIds AND n.createdAt >= :since")
+    List<String> findNotifiedPairs(@Param("type") String type, @Param("taskIds") Collection<Long> taskIds,
+            @Param("since") LocalDateTime since);
+}
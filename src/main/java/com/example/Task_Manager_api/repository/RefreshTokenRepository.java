@@ -1,17 +1,34 @@
 package com.example.Task_Manager_api.repository;
 
 import com.example.Task_Manager_api.model.RefreshToken;
-import com.example.Task_Manager_api.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
+    // Re-point the user's existing row at a new token without loading it first
+    @Transactional
     @Modifying
-    int deleteByUser(User user);
+    @Query("UPDATE refresh_token r SET r.tokenHash = :tokenHash, r.expiryDate = :expiryDate WHERE r.user.id = :userId")
+    int replaceForUser(@Param("userId") Long userId, @Param("tokenHash") String tokenHash,
+            @Param("expiryDate") Instant expiryDate);
+
+    @Query("SELECT r.id FROM refresh_token r WHERE r.expiryDate < :now")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM refresh_token r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,46 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.TaskDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TaskDailyStatRepository extends JpaRepository<TaskDailyStat, Long> {
+
+    List<TaskDailyStat> findByScopeAndScopeIdAndDayBetweenOrderByDayAsc(TaskDailyStat.Scope scope, Long scopeId,
+            LocalDate from, LocalDate to);
+
+    // Applies buffered increments in place; 0 means the row doesn't exist yet
+    @Modifying
+    @Query("UPDATE TaskDailyStat s SET s.created = s.created + :created, s.completed = s.completed + :completed, "
+            + "s.reopened = s.reopened + :reopened, s.leadTimeSeconds = s.leadTimeSeconds + :leadTimeSeconds, "
+            + "s.leadTimeSamples = s.leadTimeSamples + :leadTimeSamples "
+            + "WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.day = :day")
+    int addCounts(@Param("scope") TaskDailyStat.Scope scope, @Param("scopeId") Long scopeId,
+            @Param("day") LocalDate day, @Param("created") int created, @Param("completed") int completed,
+            @Param("reopened") int reopened, @Param("leadTimeSeconds") long leadTimeSeconds,
+            @Param("leadTimeSamples") int leadTimeSamples);
+
+    // Backfill overwrites everything derivable from the task tables; reopens have no source to rebuild from
+    @Modifying
+    @Query("UPDATE TaskDailyStat s SET s.created = :created, s.completed = :completed, s.overdue = :overdue, "
+            + "s.leadTimeSeconds = :leadTimeSeconds, s.leadTimeSamples = :leadTimeSamples "
+            + "WHERE s.scope = :scope AND s.scopeId = :scopeId AND s.day = :day")
+    int replaceDerived(@Param("scope") TaskDailyStat.Scope scope, @Param("scopeId") Long scopeId,
+            @Param("day") LocalDate day, @Param("created") int created, @Param("completed") int completed,
+            @Param("overdue") int overdue, @Param("leadTimeSeconds") long leadTimeSeconds,
+            @Param("leadTimeSamples") int leadTimeSamples);
+
+    @Modifying
+    @Query("UPDATE TaskDailyStat s SET s.created = 0, s.completed = 0, s.overdue = 0, s.leadTimeSeconds = 0, "
+            + "s.leadTimeSamples = 0 WHERE s.day = :day")
+    int clearDerived(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM TaskDailyStat s WHERE s.scope = :scope AND s.scopeId = :scopeId")
+    int deleteByScope(@Param("scope") TaskDailyStat.Scope scope, @Param("scopeId") Long scopeId);
+}
@@ -0,0 +1,46 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    Optional<TaskDependency> findByTaskIdAndBlockerId(Long taskId, Long blockerId);
+
+    boolean existsByTaskIdAndBlockerId(Long taskId, Long blockerId);
+
+    // Everything blocking the task, directly or not
+    List<TaskDependency> findByTaskId(Long taskId);
+
+    // Everything the task blocks, directly or not
+    List<TaskDependency> findByBlockerId(Long blockerId);
+
+    List<TaskDependency> findByTaskIdInAndBlockerIdIn(Collection<Long> taskIds, Collection<Long> blockerIds);
+
+    @Query("SELECT d.blockerId FROM TaskDependency d WHERE d.taskId = :id AND d.direct = true")
+    List<Long> findDirectBlockerIds(@Param("id") Long id);
+
+    @Query("SELECT d.taskId FROM TaskDependency d WHERE d.blockerId = :id AND d.direct = true")
+    List<Long> findDirectDependentIds(@Param("id") Long id);
+
+    @Query("SELECT t FROM Task t, TaskDependency d WHERE d.taskId = :id AND t.id = d.blockerId "
+            + "AND (d.direct = true OR :transitive = true) ORDER BY t.id")
+    List<Task> findBlockers(@Param("id") Long id, @Param("transitive") boolean transitive);
+
+    // Archived blockers are completed and have no task row, so they never count
+    @Query("SELECT COUNT(d) FROM TaskDependency d, Task t WHERE d.taskId = :id AND t.id = d.blockerId "
+            + "AND t.status <> com.example.Task_Manager_api.model.TaskStatus.COMPLETED")
+    long countOpenBlockers(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.taskId = :id OR d.blockerId = :id")
+    int deleteByTaskId(@Param("id") Long id);
+}
@@ -3,18 +3,22 @@ package com.example.Task_Manager_api.repository;
 import com.example.Task_Manager_api.model.Task;
 import com.example.Task_Manager_api.model.TaskStatus;
 import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskFacts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     @Override
     boolean existsById(Long id);
 
@@ -36,7 +40,28 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByAssignedUser(User user);
 
-    void deleteByGroupId(Long groupId);
+    long countByGroupId(Long groupId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.status = com.example.Task_Manager_api.model.TaskStatus.COMPLETED "
+            + "AND t.completedAt < :cutoff ORDER BY t.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Tasks that contribute to daily stats between start and end (created, completed or overdue)
+    @Query("SELECT new com.example.Task_Manager_api.payload.TaskFacts(t.id, u.id, g.id, a.id, t.createdAt, "
+            + "t.completedAt, t.dueDate) FROM Task t JOIN t.user u LEFT JOIN t.group g LEFT JOIN t.assignedUser a "
+            + "WHERE t.id > :cursor AND ((t.createdAt >= :start AND t.createdAt < :end) "
+            + "OR (t.completedAt >= :start AND t.completedAt < :end) "
+            + "OR (t.dueDate < :lastDay AND (t.completedAt IS NULL OR t.completedAt >= :start))) ORDER BY t.id")
+    List<TaskFacts> findStatFacts(@Param("cursor") Long cursor,
+            @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+            @Param("lastDay") LocalDate lastDay, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.group.id = :groupId")
+    List<Long> findIdsByGroupId(@Param("groupId") Long groupId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 
     List<Task> findByDueDateAndStatusNot(java.time.LocalDate dueDate, TaskStatus status);
 
@@ -49,4 +74,54 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             "AND t.dueDate BETWEEN :start AND :end AND t.status != 'COMPLETED'")
     List<Task> findTasksDueBetween(@Param("user") User user, @Param("start") java.time.LocalDate start,
             @Param("end") java.time.LocalDate end);
+
+    // Tasks the user owns, is assigned or sees through a group, in change feed order
+    @Query("SELECT t FROM Task t LEFT JOIN t.assignedUser a LEFT JOIN t.group g WHERE t.changeSeq > :since "
+            + "AND (t.user.id = :userId OR a.id = :userId OR g.id IN :groupIds) ORDER BY t.changeSeq")
+    List<Task> findChangedSince(@Param("userId") Long userId, @Param("groupIds") List<Long> groupIds,
+            @Param("since") Long since, Pageable pageable);
+
+    // For writes that bypass the entity (bulk updates, restores from the archive)
+    @Modifying
+    @Query(value = "UPDATE task SET change_seq = NEXT VALUE FOR task_change_seq, changed_at = :at WHERE id IN (:ids)",
+            nativeQuery = true)
+    int touch(@Param("ids") List<Long> ids, @Param("at") LocalDateTime at);
+
+    @Query("SELECT t.id FROM Task t WHERE t.changeSeq IS NULL ORDER BY t.id")
+    List<Long> findUnsequencedIds(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = t.commentCount + 1, t.lastCommentAt = :at WHERE t.id = :taskId")
+    int incrementCommentCount(@Param("taskId") Long taskId, @Param("at") LocalDateTime at);
+
+    // Read back after incrementCommentCount in the same transaction: the row lock makes it this post's count
+    @Query("SELECT t.commentCount FROM Task t WHERE t.id = :taskId")
+    int findCommentCount(@Param("taskId") Long taskId);
+
+    // Board columns: a group's tasks in one status, or a user's tasks outside any group in one status
+
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.group.id = :groupId AND t.status = :status")
+    String findMaxRankInGroupColumn(@Param("groupId") Long groupId, @Param("status") TaskStatus status);
+
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.group IS NULL AND t.user.id = :userId AND t.status = :status")
+    String findMaxRankInPersonalColumn(@Param("userId") Long userId, @Param("status") TaskStatus status);
+
+    @Query("SELECT MIN(t.rank) FROM Task t WHERE t.group.id = :groupId AND t.status = :status "
+            + "AND t.rank > :after AND t.id <> :excludeId")
+    String findNextRankInGroupColumn(@Param("groupId") Long groupId, @Param("status") TaskStatus status,
+            @Param("after") String after, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MIN(t.rank) FROM Task t WHERE t.group IS NULL AND t.user.id = :userId AND t.status = :status "
+            + "AND t.rank > :after AND t.id <> :excludeId")
+    String findNextRankInPersonalColumn(@Param("userId") Long userId, @Param("status") TaskStatus status,
+            @Param("after") String after, @Param("excludeId") Long excludeId);
+
+    // Board order: ranked tasks first, then unranked ones oldest first
+    @Query("SELECT t FROM Task t WHERE t.group.id = :groupId AND t.status = :status "
+            + "ORDER BY CASE WHEN t.rank IS NULL THEN 1 ELSE 0 END, t.rank, t.createdAt, t.id")
+    List<Task> findGroupColumn(@Param("groupId") Long groupId, @Param("status") TaskStatus status);
+
+    @Query("SELECT t FROM Task t WHERE t.group IS NULL AND t.user.id = :userId AND t.status = :status "
+            + "ORDER BY CASE WHEN t.rank IS NULL THEN 1 ELSE 0 END, t.rank, t.createdAt, t.id")
+    List<Task> findPersonalColumn(@Param("userId") Long userId, @Param("status") TaskStatus status);
 }
@@ -0,0 +1,127 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskPriority;
+import com.example.Task_Manager_api.model.TaskStatus;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+// Building blocks for TaskService.queryTasks, combined with Specification.and
+public final class TaskSpecifications {
+
+    // Fields tasks may be sorted by; id always breaks ties
+    public enum SortField {
+        CREATED_AT("createdAt", Task::getCreatedAt, LocalDateTime::parse),
+        DUE_DATE("dueDate", Task::getDueDate, LocalDate::parse),
+        COMPLETED_AT("completedAt", Task::getCompletedAt, LocalDateTime::parse),
+        TITLE("title", Task::getTitle, value -> value);
+
+        private final String attribute;
+        private final Function<Task, Object> getter;
+        private final Function<String, Object> parser;
+
+        SortField(String attribute, Function<Task, Object> getter, Function<String, Object> parser) {
+            this.attribute = attribute;
+            this.getter = getter;
+            this.parser = parser;
+        }
+
+        public static Optional<SortField> of(String attribute) {
+            return Arrays.stream(values()).filter(field -> field.attribute.equals(attribute)).findFirst();
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public Object valueOf(Task task) {
+            return getter.apply(task);
+        }
+
+        public Object parse(String value) {
+            return parser.apply(value);
+        }
+    }
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedUser").get("id"), userId);
+    }
+
+    public static Specification<Task> ownedOrAssigned(Long userId) {
+        return ownedBy(userId).or(assignedTo(userId));
+    }
+
+    public static Specification<Task> inGroup(Long groupId) {
+        return (root, query, cb) -> cb.equal(root.get("group").get("id"), groupId);
+    }
+
+    public static Specification<Task> statusIn(Collection<TaskStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> priorityIn(Collection<TaskPriority> priorities) {
+        return (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    // Inclusive on both ends; either bound may be null
+    public static Specification<Task> dueBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            Path<LocalDate> due = root.get("dueDate");
+            return cb.and(from != null ? cb.greaterThanOrEqualTo(due, from) : cb.conjunction(),
+                    to != null ? cb.lessThanOrEqualTo(due, to) : cb.conjunction());
+        };
+    }
+
+    // Whole days, inclusive on both ends; either bound may be null
+    public static Specification<Task> createdBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> created = root.get("createdAt");
+            return cb.and(from != null ? cb.greaterThanOrEqualTo(created, from.atStartOfDay()) : cb.conjunction(),
+                    to != null ? cb.lessThan(created, to.plusDays(1).atStartOfDay()) : cb.conjunction());
+        };
+    }
+
+    public static Specification<Task> textContains(String text) {
+        String pattern = "%" + text.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_")
+                + "%";
+        return (root, query, cb) -> cb.or(cb.like(cb.lower(root.get("title")), pattern, '\\'),
+                cb.like(cb.lower(root.get("description")), pattern, '\\'));
+    }
+
+    /**
+     * Keyset condition for the rows after (value, id) in the given order. NULL
+     * sorts lowest, as it does on MariaDB and H2: first when ascending, last when
+     * descending.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Specification<Task> after(SortField field, boolean ascending, Object value, Long id) {
+        return (root, query, cb) -> {
+            Path<Comparable> path = root.get(field.getAttribute());
+            Path<Long> idPath = root.get("id");
+            Predicate laterId = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if (value == null) {
+                Predicate tie = cb.and(cb.isNull(path), laterId);
+                return ascending ? cb.or(tie, cb.isNotNull(path)) : tie;
+            }
+            Comparable key = (Comparable) value;
+            Predicate beyond = ascending ? cb.greaterThan(path, key) : cb.lessThan(path, key);
+            Predicate tie = cb.and(cb.equal(path, key), laterId);
+            return ascending ? cb.or(beyond, tie) : cb.or(beyond, tie, cb.isNull(path));
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.TaskStatusEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TaskStatusEventRepository extends JpaRepository<TaskStatusEvent, Long> {
+
+    List<TaskStatusEvent> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT e FROM TaskStatusEvent e WHERE e.groupId = :groupId AND e.id > :cursor AND e.id <= :upTo "
+            + "ORDER BY e.id")
+    List<TaskStatusEvent> findGroupEvents(@Param("groupId") Long groupId, @Param("cursor") Long cursor,
+            @Param("upTo") Long upTo, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskStatusEvent e WHERE e.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+
+    // History predates the event log: seed each task with an entry at createdAt and, if it is
+    // already done, a completion at completedAt. Tasks that already have events are skipped.
+    @Modifying
+    @Query(value = "INSERT INTO task_status_events (task_id, group_id, from_status, to_status, occurred_at, recorded_at) "
+            + "SELECT t.id, t.group_id, NULL, CASE WHEN t.status = 'COMPLETED' THEN 'TO_DO' ELSE t.status END, "
+            + "COALESCE(t.created_at, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP FROM task t WHERE t.status IS NOT NULL "
+            + "AND NOT EXISTS (SELECT 1 FROM task_status_events e WHERE e.task_id = t.id)", nativeQuery = true)
+    int seedLiveTasks();
+
+    @Modifying
+    @Query(value = "INSERT INTO task_status_events (task_id, group_id, from_status, to_status, occurred_at, recorded_at) "
+            + "SELECT t.id, t.group_id, 'TO_DO', 'COMPLETED', COALESCE(t.completed_at, t.created_at, CURRENT_TIMESTAMP), "
+            + "CURRENT_TIMESTAMP FROM task t WHERE t.status = 'COMPLETED' "
+            + "AND NOT EXISTS (SELECT 1 FROM task_status_events e WHERE e.task_id = t.id AND e.to_status = 'COMPLETED')",
+            nativeQuery = true)
+    int seedLiveCompletions();
+
+    @Modifying
+    @Query(value = "INSERT INTO task_status_events (task_id, group_id, from_status, to_status, occurred_at, recorded_at) "
+            + "SELECT a.id, a.group_id, NULL, 'TO_DO', COALESCE(a.created_at, a.completed_at, CURRENT_TIMESTAMP), "
+            + "CURRENT_TIMESTAMP FROM archived_tasks a "
+            + "WHERE NOT EXISTS (SELECT 1 FROM task_status_events e WHERE e.task_id = a.id)", nativeQuery = true)
+    int seedArchivedTasks();
+
+    @Modifying
+    @Query(value = "INSERT INTO task_status_events (task_id, group_id, from_status, to_status, occurred_at, recorded_at) "
+            + "SELECT a.id, a.group_id, 'TO_DO', 'COMPLETED', COALESCE(a.completed_at, a.created_at, CURRENT_TIMESTAMP), "
+            + "CURRENT_TIMESTAMP FROM archived_tasks a "
+            + "WHERE NOT EXISTS (SELECT 1 FROM task_status_events e WHERE e.task_id = a.id AND e.to_status = 'COMPLETED')",
+            nativeQuery = true)
+    int seedArchivedCompletions();
+}
@@ -0,0 +1,34 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.TaskTemplate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskTemplateRepository extends JpaRepository<TaskTemplate, Long> {
+
+    Optional<TaskTemplate> findByCurrentTaskId(Long currentTaskId);
+
+    List<TaskTemplate> findByUserIdOrderByIdAsc(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TaskTemplate t WHERE t.id = :id")
+    Optional<TaskTemplate> findForUpdate(@Param("id") Long id);
+
+    // Templates without a live occurrence whose next one is due within the horizon
+    @Query("SELECT t.id FROM TaskTemplate t WHERE t.active = true AND t.currentTaskId IS NULL "
+            + "AND t.nextDueDate <= :horizon AND t.id > :cursor ORDER BY t.id")
+    List<Long> findDueIds(@Param("horizon") LocalDate horizon, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskTemplate t WHERE t.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,37 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("SELECT t FROM TaskTombstone t WHERE t.changeSeq > :since "
+            + "AND (t.userId = :userId OR t.assignedUserId = :userId OR t.groupId IN :groupIds) ORDER BY t.changeSeq")
+    List<TaskTombstone> findVisibleSince(@Param("userId") Long userId, @Param("groupIds") List<Long> groupIds,
+            @Param("since") Long since, Pageable pageable);
+
+    // Run before the tasks are deleted: records who could see them
+    @Modifying
+    @Query(value = "INSERT INTO task_tombstones (change_seq, task_id, user_id, assigned_user_id, group_id, deleted_at) "
+            + "SELECT NEXT VALUE FOR task_change_seq, id, user_id, assigned_user_id, group_id, :at "
+            + "FROM task WHERE id IN (:ids)", nativeQuery = true)
+    int recordDeleted(@Param("ids") List<Long> ids, @Param("at") LocalDateTime at);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    @Query("SELECT t.changeSeq FROM TaskTombstone t WHERE t.deletedAt < :cutoff ORDER BY t.changeSeq")
+    List<Long> findExpiredSeqs(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TaskTombstone t WHERE t.changeSeq IN :seqs")
+    int deleteBySeqIn(@Param("seqs") List<Long> seqs);
+}
@@ -0,0 +1,53 @@
+package com.example.Task_Manager_api.repository;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskTreePath;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TaskTreePathRepository extends JpaRepository<TaskTreePath, Long> {
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    Optional<TaskTreePath> findByDescendantIdAndDepth(Long descendantId, int depth);
+
+    // The task itself plus everything below it
+    @Query("SELECT p.descendantId FROM TaskTreePath p WHERE p.ancestorId = :id")
+    List<Long> findSubtreeIds(@Param("id") Long id);
+
+    @Query("SELECT t FROM Task t, TaskTreePath p WHERE p.ancestorId = :id AND p.depth BETWEEN 1 AND :maxDepth "
+            + "AND t.id = p.descendantId ORDER BY p.depth, t.id")
+    List<Task> findDescendants(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    // Archived subtasks are all completed, so they only add to the completed count
+    @Query("SELECT COUNT(t), COALESCE(SUM(CASE WHEN t.status = com.example.Task_Manager_api.model.TaskStatus.COMPLETED "
+            + "THEN 1 ELSE 0 END), 0) FROM Task t, TaskTreePath p WHERE p.ancestorId = :id AND p.depth > 0 "
+            + "AND t.id = p.descendantId")
+    List<Object[]> countLiveDescendants(@Param("id") Long id);
+
+    @Query("SELECT COUNT(a) FROM ArchivedTask a, TaskTreePath p WHERE p.ancestorId = :id AND p.depth > 0 "
+            + "AND a.id = p.descendantId")
+    long countArchivedDescendants(@Param("id") Long id);
+
+    // Links every ancestor of the parent (itself included) to every task in the child's subtree
+    @Modifying
+    @Query(value = "INSERT INTO task_tree_paths (ancestor_id, descendant_id, depth) "
+            + "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 FROM task_tree_paths a, task_tree_paths d "
+            + "WHERE a.descendant_id = :parentId AND d.ancestor_id = :childId", nativeQuery = true)
+    int linkSubtree(@Param("parentId") Long parentId, @Param("childId") Long childId);
+
+    // Cuts a subtree loose from everything above it
+    @Modifying
+    @Query("DELETE FROM TaskTreePath p WHERE p.descendantId IN :subtree AND p.ancestorId NOT IN :subtree")
+    int unlinkSubtree(@Param("subtree") Collection<Long> subtree);
+
+    @Modifying
+    @Query("DELETE FROM TaskTreePath p WHERE p.ancestorId = :id OR p.descendantId = :id")
+    int deleteByTaskId(@Param("id") Long id);
+}
@@ -3,6 +3,8 @@ package com.example.Task_Manager_api.repository;
 import com.example.Task_Manager_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,6 +12,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    List<User> findByEmailIn(Collection<String> emails);
+
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
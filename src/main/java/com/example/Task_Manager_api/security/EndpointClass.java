@@ -0,0 +1,37 @@
+package com.example.Task_Manager_api.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// Budget classes for rate limiting; cost is the request's weight in the fair-share queue
+public enum EndpointClass {
+    READ(1),
+    SEARCH(2),
+    WRITE(2),
+    EXPORT(4);
+
+    private final int cost;
+
+    EndpointClass(int cost) {
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        // Bulk invitations: one request fans out to hundreds of rows and emails
+        if (path.endsWith("/bulk")) {
+            return EXPORT;
+        }
+        if (!"GET".equals(request.getMethod())) {
+            return WRITE;
+        }
+        if (path.contains("/search") || path.contains("/filter") || path.contains("/query")) {
+            return SEARCH;
+        }
+        // Including archive pages and the change stream, whose reconnects are served from memory
+        return READ;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.Task_Manager_api.security;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caps concurrent requests at roughly the DB pool size. Below the cap a
+ * request is admitted with a single CAS. Once saturated, waiters are queued
+ * per user and released by deficit round robin weighted by
+ * {@link EndpointClass#getCost()}, so one busy client cannot crowd out
+ * everyone else's requests while connections are scarce.
+ */
+public class FairShareGate {
+
+    private static final int QUANTUM = 4;
+
+    private final int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    // Slow path only; guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, ArrayDeque<Waiter>> queues = new HashMap<>();
+    private final Map<String, Integer> deficits = new HashMap<>();
+    private final ArrayDeque<String> rotation = new ArrayDeque<>();
+
+    public FairShareGate(int limit) {
+        this.limit = limit;
+    }
+
+    public boolean acquire(String key, EndpointClass endpointClass, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        if (tryIncrement()) {
+            return true;
+        }
+
+        Waiter waiter = new Waiter(endpointClass.getCost());
+        lock.lock();
+        try {
+            waiting.incrementAndGet();
+            queues.computeIfAbsent(key, k -> {
+                rotation.addLast(k);
+                return new ArrayDeque<>();
+            }).addLast(waiter);
+            // A release may have slipped in before we were visible to it
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+
+        if (waiter.latch.await(timeout, unit)) {
+            return true;
+        }
+
+        lock.lock();
+        try {
+            if (waiter.granted) {
+                return true;
+            }
+            ArrayDeque<Waiter> queue = queues.get(key);
+            if (queue != null && queue.remove(waiter)) {
+                waiting.decrementAndGet();
+                if (queue.isEmpty()) {
+                    queues.remove(key);
+                    deficits.remove(key);
+                    rotation.remove(key);
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+        if (waiting.get() > 0) {
+            lock.lock();
+            try {
+                dispatch();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    private boolean tryIncrement() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Caller holds lock
+    private void dispatch() {
+        while (!rotation.isEmpty() && tryIncrement()) {
+            while (true) {
+                String key = rotation.peekFirst();
+                ArrayDeque<Waiter> queue = queues.get(key);
+                Waiter head = queue.peekFirst();
+                int deficit = deficits.getOrDefault(key, 0);
+                if (deficit < head.cost) {
+                    deficits.put(key, deficit + QUANTUM);
+                    rotation.addLast(rotation.pollFirst());
+                    continue;
+                }
+                queue.pollFirst();
+                waiting.decrementAndGet();
+                if (queue.isEmpty()) {
+                    queues.remove(key);
+                    deficits.remove(key);
+                    rotation.pollFirst();
+                } else {
+                    deficits.put(key, deficit - head.cost);
+                }
+                head.granted = true;
+                head.latch.countDown();
+                break;
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final int cost;
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private volatile boolean granted;
+
+        private Waiter(int cost) {
+            this.cost = cost;
+        }
+    }
+}
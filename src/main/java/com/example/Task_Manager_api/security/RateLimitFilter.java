@@ -0,0 +1,159 @@
+package com.example.Task_Manager_api.security;
+
+import com.example.Task_Manager_api.payload.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs right after {@link JwtAuthenticationFilter}. Each caller (username, or
+ * remote address when anonymous) gets its own token bucket per
+ * {@link EndpointClass}; admitted requests then pass through a
+ * {@link FairShareGate} sized to the connection pool.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.read.capacity:60}")
+    private int readCapacity;
+    @Value("${rate-limit.read.per-second:20}")
+    private double readPerSecond;
+    @Value("${rate-limit.search.capacity:10}")
+    private int searchCapacity;
+    @Value("${rate-limit.search.per-second:2}")
+    private double searchPerSecond;
+    @Value("${rate-limit.write.capacity:30}")
+    private int writeCapacity;
+    @Value("${rate-limit.write.per-second:10}")
+    private double writePerSecond;
+    @Value("${rate-limit.export.capacity:2}")
+    private int exportCapacity;
+    @Value("${rate-limit.export.per-second:0.1}")
+    private double exportPerSecond;
+
+    // 0 = size the gate to the Hikari pool
+    @Value("${rate-limit.max-concurrent:0}")
+    private int maxConcurrent;
+    @Value("${rate-limit.queue-timeout-ms:2000}")
+    private long queueTimeoutMs;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private TokenBuckets buckets;
+    private FairShareGate gate;
+
+    @Override
+    protected void initFilterBean() {
+        // Also invoked by the servlet container's init(); keep the first instance
+        if (gate != null) {
+            return;
+        }
+        buckets = new TokenBuckets(
+                new int[] { readCapacity, searchCapacity, writeCapacity, exportCapacity },
+                new double[] { readPerSecond, searchPerSecond, writePerSecond, exportPerSecond });
+        int limit = maxConcurrent;
+        if (limit <= 0) {
+            limit = primaryPoolSize();
+        }
+        gate = new FairShareGate(limit);
+    }
+
+    // The data source may be wrapped (replica routing), so unwrap to reach the primary pool
+    private int primaryPoolSize() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            // Fall through to the default
+        }
+        return 10;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = callerKey(request);
+        EndpointClass endpointClass = EndpointClass.of(request);
+
+        long waitNanos = buckets.tryAcquire(key, endpointClass, System.nanoTime());
+        if (waitNanos > 0) {
+            reject(response, request, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded");
+            return;
+        }
+
+        boolean admitted;
+        try {
+            admitted = gate.acquire(key, endpointClass, queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(response, request, HttpStatus.SERVICE_UNAVAILABLE, TimeUnit.SECONDS.toNanos(1),
+                    "Server is busy, please retry shortly");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            gate.release();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleBuckets() {
+        if (buckets != null) {
+            buckets.evictIdle(System.nanoTime());
+        }
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && auth.getName() != null) {
+            return "u:" + auth.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpServletRequest request, HttpStatus status,
+            long waitNanos, String message) throws IOException {
+        long retryAfter = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ErrorResponse(LocalDateTime.now(), message, "uri=" + request.getRequestURI()));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.Task_Manager_api.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-key token buckets, one per {@link EndpointClass}, implemented as GCRA:
+ * each bucket is a single "theoretical arrival time" updated with a CAS, so
+ * checking a request is one map lookup plus one compare-and-set, no locks.
+ */
+public class TokenBuckets {
+
+    private final long[] intervalNanos;
+    private final long[] burstNanos;
+    private final ConcurrentHashMap<String, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity  burst size per class, indexed by {@link EndpointClass#ordinal()}
+     * @param perSecond sustained rate per class, indexed the same way
+     */
+    public TokenBuckets(int[] capacity, double[] perSecond) {
+        int n = EndpointClass.values().length;
+        intervalNanos = new long[n];
+        burstNanos = new long[n];
+        for (int i = 0; i < n; i++) {
+            intervalNanos[i] = (long) (1_000_000_000L / perSecond[i]);
+            burstNanos[i] = intervalNanos[i] * (capacity[i] - 1);
+        }
+    }
+
+    /**
+     * Takes one token for {@code key} in {@code endpointClass}.
+     *
+     * @return 0 if admitted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, EndpointClass endpointClass, long now) {
+        int i = endpointClass.ordinal();
+        AtomicLongArray tat = buckets.computeIfAbsent(key, k -> full(now));
+        while (true) {
+            long current = tat.get(i);
+            long arrival = Math.max(current, now);
+            long wait = arrival - now - burstNanos[i];
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(i, current, arrival + intervalNanos[i])) {
+                return 0;
+            }
+        }
+    }
+
+    // A new key starts with every bucket full as of now; nanoTime values can be negative, so not at 0
+    private AtomicLongArray full(long now) {
+        AtomicLongArray tat = new AtomicLongArray(intervalNanos.length);
+        for (int i = 0; i < intervalNanos.length; i++) {
+            tat.set(i, now);
+        }
+        return tat;
+    }
+
+    /** Drops buckets that have fully refilled; they are indistinguishable from new ones. */
+    public int evictIdle(long now) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(e -> {
+            AtomicLongArray tat = e.getValue();
+            for (int i = 0; i < tat.length(); i++) {
+                if (tat.get(i) > now) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.config.ActivityRetentionProperties;
+import com.example.Task_Manager_api.repository.ActivityLogRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Enforces activity retention. When activity_logs is range-partitioned by
+ * month of {@code expires_at} (MariaDB, see db/activity_logs_partitioning.sql)
+ * expired months are dropped as whole partitions and upcoming months are split
+ * off the {@code pmax} catch-all ahead of time, before any row can land
+ * there. On any other database the same retention is applied with batched
+ * deletes.
+ */
+@Service
+public class ActivityLogPartitionManager {
+
+    private static final String TABLE = "activity_logs";
+    private static final String CATCH_ALL = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // Months created beyond the longest retention, so inserts never land in pmax
+    private static final int MONTHS_AHEAD = 2;
+
+    @Value("${activity.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private ActivityRetentionProperties retentionProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            System.err.println("Activity log maintenance failed on startup: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${activity.retention.cron:0 15 2 * * *}")
+    public void maintain() {
+        List<String> partitions = partitionNames();
+        if (partitions.isEmpty()) {
+            purgeExpiredRows();
+            return;
+        }
+        createUpcomingPartitions(partitions);
+        dropExpiredPartitions(partitions);
+    }
+
+    private List<String> partitionNames() {
+        try {
+            return jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                            + "ORDER BY PARTITION_ORDINAL_POSITION",
+                    String.class, TABLE);
+        } catch (Exception e) {
+            // No MariaDB/MySQL style information_schema (e.g. H2): not partitioned
+            return List.of();
+        }
+    }
+
+    private void createUpcomingPartitions(List<String> partitions) {
+        if (!partitions.contains(CATCH_ALL)) {
+            System.err.println("activity_logs is partitioned without " + CATCH_ALL + "; not adding partitions");
+            return;
+        }
+        YearMonth last = partitions.stream()
+                .filter(name -> !name.equals(CATCH_ALL))
+                .map(name -> YearMonth.parse(name.substring(1), PARTITION_MONTH))
+                .max(YearMonth::compareTo)
+                .orElse(YearMonth.now().minusMonths(1));
+        YearMonth horizon = YearMonth.from(LocalDate.now().plus(retentionProperties.maxRetention()))
+                .plusMonths(MONTHS_AHEAD);
+
+        StringBuilder upcoming = new StringBuilder();
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(horizon); month = month.plusMonths(1)) {
+            upcoming.append("PARTITION ").append(month.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN ('").append(month.plusMonths(1).atDay(1)).append("'), ");
+        }
+        if (upcoming.isEmpty()) {
+            return;
+        }
+        // REORGANIZE copies every row in pmax. The migration and earlier runs keep pmax empty, so this is
+        // normally metadata only; after a retention increase it may hold rows, so split all months in one pass
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + CATCH_ALL + " INTO ("
+                + upcoming + "PARTITION " + CATCH_ALL + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    private void dropExpiredPartitions(List<String> partitions) {
+        // Partition pYYYYMM holds rows expiring before the first of the following month
+        YearMonth current = YearMonth.now();
+        for (String name : partitions) {
+            if (name.equals(CATCH_ALL)) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(name.substring(1), PARTITION_MONTH);
+            if (month.isBefore(current)) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+            }
+        }
+    }
+
+    private void purgeExpiredRows() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        LocalDateTime now = LocalDateTime.now();
+
+        int deleted;
+        do {
+            deleted = tx.execute(status -> {
+                List<Long> ids = activityLogRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : activityLogRepository.deleteByIdIn(ids);
+            });
+        } while (deleted == batchSize);
+    }
+}
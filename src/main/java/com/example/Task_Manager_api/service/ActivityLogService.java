@@ -1,5 +1,6 @@
 package com.example.Task_Manager_api.service;
 
+import com.example.Task_Manager_api.config.ActivityRetentionProperties;
 import com.example.Task_Manager_api.model.ActivityLog;
 import com.example.Task_Manager_api.model.Task;
 import com.example.Task_Manager_api.model.User;
@@ -10,23 +11,42 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 public class ActivityLogService {
 
     @Autowired
     private ActivityLogRepository activityLogRepository;
 
+    @Autowired
+    private ActivityRetentionProperties retentionProperties;
+
     @Transactional
     public void logActivity(String type, String description, User user, Task task) {
         ActivityLog log = new ActivityLog(type, description, user, task);
+        log.setExpiresAt(log.getTimestamp().plus(retentionProperties.retentionFor(type)));
         activityLogRepository.save(log);
     }
 
-    public Page<ActivityLog> getRecentActivitiesForUser(User user, Pageable pageable) {
-        return activityLogRepository.findByUserRelatedActivities(user, pageable);
+    @Transactional(readOnly = true)
+    public Page<ActivityLog> getRecentActivitiesForUser(User user, int days, Pageable pageable) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusDays(days);
+        // A row written at or after `since` expires no earlier than since + the shortest retention,
+        // and nothing live expires later than now + the longest one
+        LocalDateTime expiresFrom = since.plus(retentionProperties.minRetention());
+        if (expiresFrom.isBefore(now)) {
+            expiresFrom = now;
+        }
+        return activityLogRepository.findByUserRelatedActivities(user, since, expiresFrom,
+                now.plus(retentionProperties.maxRetention()), pageable);
     }
 
+    @Transactional(readOnly = true)
     public Page<ActivityLog> getActivitiesForTask(Long taskId, Pageable pageable) {
-        return activityLogRepository.findByTaskIdOrderByTimestampDesc(taskId, pageable);
+        LocalDateTime now = LocalDateTime.now();
+        return activityLogRepository.findTaskActivities(taskId, now, now.plus(retentionProperties.maxRetention()),
+                pageable);
     }
 }
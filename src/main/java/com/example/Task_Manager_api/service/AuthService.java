@@ -1,16 +1,19 @@
 package com.example.Task_Manager_api.service;
 
+import com.example.Task_Manager_api.exception.PasswordHashingRejectedException;
 import com.example.Task_Manager_api.model.User;
 import com.example.Task_Manager_api.payload.AuthRequest;
 import com.example.Task_Manager_api.repository.UserRepository;
 import com.example.Task_Manager_api.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Collections;
 import java.util.stream.Collectors;
@@ -31,7 +34,7 @@ public class AuthService {
     private RefreshTokenService refreshTokenService;
 
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
 
     public com.example.Task_Manager_api.payload.AuthResponse authenticate(AuthRequest request) {
         try {
@@ -43,16 +46,20 @@ public class AuthService {
 
             String accessToken = jwtTokenProvider.generateToken(user.getUsername(), user.getRoles());
 
-            // Delete old refresh token and create new one
-            refreshTokenService.deleteByUserId(user.getId());
-            com.example.Task_Manager_api.model.RefreshToken refreshToken = refreshTokenService
-                    .createRefreshToken(user.getId());
+            // Replaces any previous refresh token for this user
+            String refreshToken = refreshTokenService.createRefreshToken(user.getId());
 
-            return new com.example.Task_Manager_api.payload.AuthResponse(accessToken, refreshToken.getToken());
+            return new com.example.Task_Manager_api.payload.AuthResponse(accessToken, refreshToken);
         } catch (BadCredentialsException e) {
             throw new RuntimeException("Invalid username or password", e);
         } catch (UsernameNotFoundException e) {
             throw new RuntimeException("User not found", e);
+        } catch (InternalAuthenticationServiceException e) {
+            // Hashing pool saturation surfaces wrapped when it happens during user lookup
+            if (e.getCause() instanceof PasswordHashingRejectedException) {
+                throw (PasswordHashingRejectedException) e.getCause();
+            }
+            throw e;
         }
     }
 
@@ -75,13 +82,12 @@ public class AuthService {
         userRepository.save(user);
     }
 
-    public java.util.Optional<com.example.Task_Manager_api.model.RefreshToken> findByRefreshToken(String token) {
-        return refreshTokenService.findByToken(token);
-    }
-
-    public com.example.Task_Manager_api.model.RefreshToken verifyExpiration(
-            com.example.Task_Manager_api.model.RefreshToken token) {
-        return refreshTokenService.verifyExpiration(token);
+    public com.example.Task_Manager_api.payload.AuthResponse refresh(String requestRefreshToken) {
+        return refreshTokenService.redeem(requestRefreshToken)
+                .map(grant -> new com.example.Task_Manager_api.payload.AuthResponse(
+                        generateAccessToken(grant.getUser()), grant.getRefreshToken()))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED,
+                        "Refresh token is invalid or expired. Please make a new signin request"));
     }
 
     public String generateAccessToken(User user) {
@@ -0,0 +1,76 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.payload.TaskChangeEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sits between the services and the {@link ClusterEventBus} for task change
+ * notifications. Changes are only queued once the surrounding transaction
+ * commits, and all task ids queued for a destination within one window go
+ * out as a single {@link TaskChangeEvent}, so a bulk update of N tasks costs
+ * clients one refresh per window instead of N.
+ */
+@Service
+public class BroadcastCoalescer implements DisposableBean {
+
+    @Value("${broadcast.coalesce-window-ms:250}")
+    private long windowMs;
+
+    @Autowired
+    private ClusterEventBus clusterEventBus;
+
+    private final ConcurrentHashMap<String, Set<Long>> pending = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "broadcast-coalescer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public void taskChanged(String destination, Long taskId) {
+        AfterCommit.run(() -> enqueue(destination, taskId));
+    }
+
+    private void enqueue(String destination, Long taskId) {
+        boolean[] opened = new boolean[1];
+        // compute() is atomic per key, so an id can't land in a set that flush() already took
+        pending.compute(destination, (k, ids) -> {
+            if (ids == null) {
+                ids = new LinkedHashSet<>();
+                opened[0] = true;
+            }
+            ids.add(taskId);
+            return ids;
+        });
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(destination), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(String destination) {
+        Set<Long> ids = pending.remove(destination);
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        try {
+            clusterEventBus.publish(destination, new TaskChangeEvent(ids));
+        } catch (Exception e) {
+            System.err.println("Failed to broadcast task changes to " + destination + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
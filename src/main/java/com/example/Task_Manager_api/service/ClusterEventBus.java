@@ -0,0 +1,27 @@
+package com.example.Task_Manager_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Fan-out for STOMP broadcasts. Every node runs its own simple broker, so a
+ * message published here must reach the local broker of every node for
+ * clients to hear about changes made elsewhere.
+ * <p>
+ * Destinations under {@link #NODE_PREFIX} are for the nodes themselves (cache
+ * evictions and the like): they never reach clients and are instead published
+ * as a {@link NodeMessage} application event on every node, the publishing
+ * one included.
+ */
+public interface ClusterEventBus {
+
+    String NODE_PREFIX = "/cluster/";
+
+    record NodeMessage(String destination, JsonNode payload) {
+    }
+
+    void publish(String destination, Object payload);
+
+    static boolean isNodeDestination(String destination) {
+        return destination.startsWith(NODE_PREFIX);
+    }
+}
@@ -3,22 +3,29 @@ package com.example.Task_Manager_api.service;
 import com.example.Task_Manager_api.model.Comment;
 import com.example.Task_Manager_api.model.Task;
 import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.CommentEvent;
+import com.example.Task_Manager_api.payload.CommentView;
+import com.example.Task_Manager_api.payload.CursorPage;
 import com.example.Task_Manager_api.repository.CommentRepository;
 import com.example.Task_Manager_api.repository.TaskRepository;
 import com.example.Task_Manager_api.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private CommentRepository commentRepository;
 
@@ -29,11 +36,17 @@ public class CommentService {
     private UserRepository userRepository;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private ClusterEventBus clusterEventBus;
 
     @Autowired
     private ActivityLogService activityLogService;
 
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TaskChangeService taskChangeService;
+
     private User getCurrentUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         String username;
@@ -46,7 +59,8 @@ public class CommentService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
     }
 
-    public Comment addComment(Long taskId, String text) {
+    @Transactional
+    public CommentView addComment(Long taskId, String text) {
         User currentUser = getCurrentUser();
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
@@ -58,17 +72,48 @@ public class CommentService {
 
         Comment saved = commentRepository.save(comment);
 
+        // Single UPDATE keeps the counter correct under concurrent posts
+        taskRepository.incrementCommentCount(taskId, saved.getCreatedAt());
+        int commentCount = taskRepository.findCommentCount(taskId);
+        taskChangeService.touch(List.of(taskId));
+
         activityLogService.logActivity("COMMENT_ADDED",
                 "Added a comment to '" + task.getTitle() + "'",
                 currentUser, task);
 
-        // Broadcast via WebSocket
-        messagingTemplate.convertAndSend("/topic/tasks/" + taskId + "/comments", "updated");
+        // The task's owner and assignee hear about it, never the author
+        List<NotificationService.Draft> drafts = new ArrayList<>();
+        String message = currentUser.getUsername() + " commented on '" + task.getTitle() + "'";
+        Long groupId = task.getGroup() != null ? task.getGroup().getId() : null;
+        for (User recipient : new User[] { task.getUser(), task.getAssignedUser() }) {
+            if (recipient != null && !recipient.getId().equals(currentUser.getId())
+                    && drafts.stream().noneMatch(d -> d.userId().equals(recipient.getId()))) {
+                drafts.add(NotificationService.Draft.to(recipient, NotificationService.COMMENT_ADDED, message,
+                        taskId, groupId));
+            }
+        }
+        notificationService.send(drafts);
+
+        CommentView view = new CommentView(saved.getId(), saved.getText(), saved.getCreatedAt(),
+                currentUser.getId(), currentUser.getUsername());
 
-        return saved;
+        // Broadcast the new comment itself so subscribers can append without refetching
+        CommentEvent event = new CommentEvent(taskId, commentCount, view);
+        AfterCommit.run(() -> clusterEventBus.publish("/topic/tasks/" + taskId + "/comments", event));
+
+        return view;
     }
 
-    public List<Comment> getCommentsForTask(Long taskId) {
-        return commentRepository.findByTaskIdOrderByCreatedAtAsc(taskId);
+    @Transactional(readOnly = true)
+    public CursorPage<CommentView> getCommentsForTask(Long taskId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to know whether another page exists
+        List<CommentView> rows = commentRepository.findThreadPage(taskId, cursor == null ? 0L : cursor,
+                PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<CommentView> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, items.get(pageSize - 1).getId());
     }
 }
@@ -0,0 +1,229 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.DigestEntry;
+import com.example.Task_Manager_api.model.EmailDelivery;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.DigestEntryRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Daily digest emails for users who chose {@link EmailDelivery#DIGEST}.
+ * Assignment and due-date emails for them are queued as digest entries instead
+ * of being sent; a scheduled job pages through recipients with pending
+ * entries, loads a page of recipients' entries in one locked query and sends
+ * one email per recipient over EmailService's batched connections. Entries of
+ * recipients whose email failed are put back for the next run.
+ */
+@Service
+public class EmailDigestService {
+
+    // Section headings in the order they appear in the email; other types go last
+    private static final Map<String, String> SECTIONS = new LinkedHashMap<>();
+
+    static {
+        SECTIONS.put(NotificationService.TASK_DUE_SOON, "Due soon");
+        SECTIONS.put(NotificationService.TASK_ASSIGNED, "Assigned to you");
+    }
+
+    private record Pending(List<EmailService.Digest> digests, Map<String, List<Long>> entryIdsByEmail) {
+    }
+
+    @Value("${email.digest.batch-size:200}")
+    private int batchSize;
+
+    @Value("${email.digest.retention-days:7}")
+    private int retentionDays;
+
+    @Autowired
+    private DigestEntryRepository digestEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User getCurrentUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        String username;
+        if (principal instanceof UserDetails) {
+            username = ((UserDetails) principal).getUsername();
+        } else {
+            username = principal.toString();
+        }
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+    }
+
+    public EmailDelivery getEmailDelivery() {
+        return getCurrentUser().getEmailDelivery();
+    }
+
+    // Entries already queued still go out with the next digest after switching back to immediate
+    public EmailDelivery setEmailDelivery(EmailDelivery delivery) {
+        if (delivery == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "emailDelivery is required");
+        }
+        User currentUser = getCurrentUser();
+        currentUser.setEmailDelivery(delivery);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository.save(currentUser));
+        return delivery;
+    }
+
+    public static boolean wantsDigest(User user) {
+        return user.getEmailDelivery() == EmailDelivery.DIGEST;
+    }
+
+    public void queue(NotificationService.Draft draft) {
+        submit(List.of(draft), null);
+    }
+
+    // At most one entry per recipient, task and type per day (reminder jobs run hourly)
+    public void queueOncePerDay(List<NotificationService.Draft> drafts) {
+        submit(drafts, LocalDate.now().atStartOfDay());
+    }
+
+    // Written once the caller's transaction commits, so a rolled back change queues nothing
+    private void submit(List<NotificationService.Draft> drafts, LocalDateTime dedupeSince) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        List<NotificationService.Draft> copy = List.copyOf(drafts);
+        AfterCommit.run(() -> {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            try {
+                tx.executeWithoutResult(status -> {
+                    Set<String> skip = dedupeSince != null ? alreadyQueued(copy, dedupeSince) : new HashSet<>();
+                    List<DigestEntry> entries = new ArrayList<>();
+                    for (NotificationService.Draft draft : copy) {
+                        if (skip.add(draft.userId() + ":" + draft.taskId())) {
+                            entries.add(new DigestEntry(draft.userId(), draft.type(), draft.message(),
+                                    draft.taskId()));
+                        }
+                    }
+                    digestEntryRepository.saveAll(entries);
+                });
+            } catch (Exception e) {
+                System.err.println("Failed to queue " + copy.size() + " digest entries: " + e.getMessage());
+            }
+        });
+    }
+
+    private Set<String> alreadyQueued(List<NotificationService.Draft> drafts, LocalDateTime since) {
+        Set<String> pairs = new HashSet<>();
+        drafts.stream().map(NotificationService.Draft::type).distinct().forEach(type -> {
+            List<Long> taskIds = drafts.stream().filter(d -> d.type().equals(type) && d.taskId() != null)
+                    .map(NotificationService.Draft::taskId).distinct().toList();
+            if (!taskIds.isEmpty()) {
+                pairs.addAll(digestEntryRepository.findQueuedPairs(type, taskIds, since));
+            }
+        });
+        return pairs;
+    }
+
+    @Scheduled(cron = "${email.digest.cron:0 0 7 * * *}")
+    public void sendDigests() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        long after = 0;
+        List<Long> recipients;
+        do {
+            recipients = digestEntryRepository.findPendingRecipients(after, PageRequest.of(0, batchSize));
+            if (recipients.isEmpty()) {
+                break;
+            }
+            after = recipients.get(recipients.size() - 1);
+
+            // Claimed (marked sent) before sending; the lock keeps other nodes off these entries until then
+            List<Long> page = recipients;
+            Pending pending = tx.execute(status -> claim(page));
+            Set<String> failed = emailService.sendDigestEmails(pending.digests());
+            List<Long> retry = new ArrayList<>();
+            failed.forEach(email -> retry.addAll(pending.entryIdsByEmail().getOrDefault(email, List.of())));
+            if (!retry.isEmpty()) {
+                tx.executeWithoutResult(status -> digestEntryRepository.markUnsent(retry));
+            }
+        } while (recipients.size() == batchSize);
+
+        purgeSent(tx);
+    }
+
+    private Pending claim(List<Long> recipients) {
+        List<DigestEntry> entries = digestEntryRepository.findPendingForUpdate(recipients);
+        Map<Long, User> users = new HashMap<>();
+        userRepository.findAllById(recipients).forEach(user -> users.put(user.getId(), user));
+
+        Map<Long, Map<String, List<String>>> sections = new LinkedHashMap<>();
+        Map<String, List<Long>> entryIdsByEmail = new HashMap<>();
+        List<Long> claimed = new ArrayList<>();
+        for (DigestEntry entry : entries) {
+            User user = users.get(entry.getUserId());
+            claimed.add(entry.getId());
+            if (user == null || user.getEmail() == null) {
+                continue; // Nowhere to send it; dropped with the rest
+            }
+            String heading = SECTIONS.getOrDefault(entry.getType(), "Other updates");
+            sections.computeIfAbsent(user.getId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(heading, h -> new ArrayList<>()).add(entry.getMessage());
+            entryIdsByEmail.computeIfAbsent(user.getEmail(), email -> new ArrayList<>()).add(entry.getId());
+        }
+        if (!claimed.isEmpty()) {
+            digestEntryRepository.markSent(claimed, LocalDateTime.now());
+        }
+
+        List<EmailService.Digest> digests = new ArrayList<>();
+        sections.forEach((userId, byHeading) -> {
+            User user = users.get(userId);
+            digests.add(new EmailService.Digest(user.getEmail(), user.getUsername(), ordered(byHeading)));
+        });
+        return new Pending(digests, entryIdsByEmail);
+    }
+
+    private static Map<String, List<String>> ordered(Map<String, List<String>> byHeading) {
+        Map<String, List<String>> ordered = new LinkedHashMap<>();
+        for (String heading : SECTIONS.values()) {
+            if (byHeading.containsKey(heading)) {
+                ordered.put(heading, byHeading.get(heading));
+            }
+        }
+        byHeading.forEach(ordered::putIfAbsent);
+        return ordered;
+    }
+
+    private void purgeSent(TransactionTemplate tx) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted;
+        do {
+            deleted = tx.execute(status -> {
+                List<Long> ids = digestEntryRepository.findSentBefore(cutoff, PageRequest.of(0, batchSize));
+                return ids.isEmpty() ? 0 : digestEntryRepository.deleteByIdIn(ids);
+            });
+        } while (deleted == batchSize);
+    }
+}
@@ -1,24 +1,151 @@
 package com.example.Task_Manager_api.service;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 @Service
-public class EmailService {
+public class EmailService implements DisposableBean {
+
+    // Messages handed to JavaMailSender in one call share a single SMTP connection
+    @Value("${email.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.batch-timeout-ms:60000}")
+    private long batchTimeoutMs;
 
     @Autowired
     private JavaMailSender mailSender;
 
+    private final ExecutorService senders;
+
+    // One digest email: section heading to its lines, in the order they should appear
+    public record Digest(String to, String username, Map<String, List<String>> sections) {
+    }
+
+    public record Reminder(String to, String taskTitle, LocalDate dueDate) {
+    }
+
+    public EmailService(@Value("${email.sender-threads:4}") int senderThreads) {
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "email-sender");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
     public void sendInvitationEmail(String to, String groupName, String ownerName) {
+        mailSender.send(invitationMessage(to, groupName, ownerName));
+    }
+
+    /**
+     * Sends one invitation per address: batches go out in parallel on the
+     * sender pool, each over its own connection. Returns the addresses that
+     * could not be delivered instead of throwing.
+     */
+    public Set<String> sendInvitationEmails(Collection<String> recipients, String groupName, String ownerName) {
+        List<SimpleMailMessage> messages = new ArrayList<>();
+        for (String to : recipients) {
+            messages.add(invitationMessage(to, groupName, ownerName));
+        }
+        return sendAll(messages, "invitation");
+    }
+
+    // Same delivery as invitations: returns the addresses whose digest could not be sent
+    public Set<String> sendDigestEmails(List<Digest> digests) {
+        List<SimpleMailMessage> messages = new ArrayList<>();
+        for (Digest digest : digests) {
+            messages.add(digestMessage(digest));
+        }
+        return sendAll(messages, "digest");
+    }
+
+    private Set<String> sendAll(List<SimpleMailMessage> messages, String kind) {
+        List<List<SimpleMailMessage>> batches = new ArrayList<>();
+        List<Future<Set<String>>> results = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i += batchSize) {
+            List<SimpleMailMessage> batch = messages.subList(i, Math.min(i + batchSize, messages.size()));
+            batches.add(batch);
+            results.add(senders.submit(() -> sendBatch(batch, kind)));
+        }
+
+        Set<String> failed = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeoutMs);
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                failed.addAll(results.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (Exception e) {
+                System.err.println("Email batch (" + kind + ") did not complete: " + e.getMessage());
+                results.get(i).cancel(true);
+                batches.get(i).forEach(message -> failed.add(message.getTo()[0]));
+            }
+        }
+        return failed;
+    }
+
+    private Set<String> sendBatch(List<SimpleMailMessage> batch, String kind) {
+        Set<String> failed = new HashSet<>();
+        try {
+            mailSender.send(batch.toArray(new SimpleMailMessage[0]));
+        } catch (MailSendException e) {
+            // Per-message failures are keyed by the message; connection failures fail the whole batch
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(message -> failed.add(message.getTo()[0]));
+            }
+            e.getFailedMessages().keySet().forEach(message -> {
+                if (message instanceof SimpleMailMessage simple) {
+                    failed.add(simple.getTo()[0]);
+                }
+            });
+            System.err.println("Failed to send " + failed.size() + " " + kind + " emails: " + e.getMessage());
+        } catch (Exception e) {
+            batch.forEach(message -> failed.add(message.getTo()[0]));
+            System.err.println("Failed to send " + kind + " batch: " + e.getMessage());
+        }
+        return failed;
+    }
+
+    private SimpleMailMessage invitationMessage(String to, String groupName, String ownerName) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject("Invitation to join Group: " + groupName);
         message.setText("Hello,\n\n" + ownerName + " has invited you to join their task management group: " + groupName
                 +
                 ".\n\nPlease log in to your account to accept the invitation.\n\nBest regards,\nSynapse Team");
-        mailSender.send(message);
+        return message;
+    }
+
+    private SimpleMailMessage digestMessage(Digest digest) {
+        int count = digest.sections().values().stream().mapToInt(List::size).sum();
+        StringBuilder text = new StringBuilder("Hello " + digest.username() + ",\n\n"
+                + "Here is what happened in your tasks since your last summary.\n");
+        digest.sections().forEach((heading, lines) -> {
+            text.append("\n").append(heading).append(":\n");
+            lines.forEach(line -> text.append("  - ").append(line).append("\n"));
+        });
+        text.append("\nPlease log in to your dashboard to view the details.\n\nBest regards,\nSynapse Team");
+
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(digest.to());
+        message.setSubject("Your Synapse summary: " + count + (count == 1 ? " update" : " updates"));
+        message.setText(text.toString());
+        return message;
     }
 
     public void sendTaskAssignmentEmail(String to, String taskTitle, String groupName, String assignerName) {
@@ -32,7 +159,16 @@ public class EmailService {
         mailSender.send(message);
     }
 
-    public void sendDueDateReminderEmail(String to, String taskTitle, java.time.LocalDate dueDate) {
+    // A reminder run's emails go out in batches like invitations rather than one connection each
+    public Set<String> sendDueDateReminderEmails(List<Reminder> reminders) {
+        List<SimpleMailMessage> messages = new ArrayList<>();
+        for (Reminder reminder : reminders) {
+            messages.add(dueDateReminderMessage(reminder.to(), reminder.taskTitle(), reminder.dueDate()));
+        }
+        return sendAll(messages, "reminder");
+    }
+
+    private SimpleMailMessage dueDateReminderMessage(String to, String taskTitle, LocalDate dueDate) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject("Last Call: Task '" + taskTitle + "' is due tomorrow!");
@@ -40,6 +176,11 @@ public class EmailService {
                 "Hello,\n\nThis is a friendly reminder that your task '" + taskTitle + "' is due on " + dueDate
                         + ".\n\n"
                         + "Stay productive and get it done!\n\nBest regards,\nSynapse Team");
-        mailSender.send(message);
+        return message;
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
     }
 }
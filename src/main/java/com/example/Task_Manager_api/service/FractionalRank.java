@@ -0,0 +1,80 @@
+package com.example.Task_Manager_api.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Board ranks: base-36 strings (0-9, a-z) compared as plain strings, read as
+ * fractions after a radix point. There is always room between two ranks, so a
+ * move rewrites only the moved task. Ranks never end in '0', which keeps each
+ * value to one spelling. Lower case only, so case-insensitive collations sort
+ * them the same way Java does.
+ */
+public final class FractionalRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private FractionalRank() {
+    }
+
+    // A rank strictly between lower and upper; null means unbounded on that side
+    public static String between(String lower, String upper) {
+        String a = lower == null ? "" : lower;
+        if (upper != null && a.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException(lower + " is not below " + upper);
+        }
+        return midpoint(a, upper);
+    }
+
+    private static String midpoint(String a, String b) {
+        // Keep any prefix the two share (a is padded with zeros)
+        int shared = 0;
+        if (b != null) {
+            while (shared < b.length() && (shared < a.length() ? a.charAt(shared) : '0') == b.charAt(shared)) {
+                shared++;
+            }
+            if (shared > 0) {
+                return b.substring(0, shared) + midpoint(a.substring(Math.min(shared, a.length())), b.substring(shared));
+            }
+        }
+        int low = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int high = b == null ? BASE : DIGITS.indexOf(b.charAt(0));
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high + 1) / 2));
+        }
+        // Adjacent first digits: b's first digit alone sits between them when b has more digits,
+        // otherwise keep a's first digit and go one place further
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    // count ranks spread evenly over (0, 1), all of the same short length, for a rebalance
+    public static List<String> spread(int count) {
+        int length = 1;
+        BigInteger slots = BigInteger.valueOf(BASE);
+        BigInteger needed = BigInteger.valueOf(count + 1L);
+        while (slots.compareTo(needed.multiply(BigInteger.valueOf(BASE))) < 0) {
+            slots = slots.multiply(BigInteger.valueOf(BASE));
+            length++;
+        }
+        // One spare digit leaves room for roughly BASE moves between neighbours before ranks grow
+        BigInteger step = slots.divide(needed);
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            StringBuilder rank = new StringBuilder(step.multiply(BigInteger.valueOf(i)).toString(BASE));
+            while (rank.length() < length) {
+                rank.insert(0, '0');
+            }
+            int end = rank.length();
+            while (end > 1 && rank.charAt(end - 1) == '0') {
+                end--;
+            }
+            ranks.add(rank.substring(0, end));
+        }
+        return ranks;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.payload.GroupMemberRow;
+import com.example.Task_Manager_api.payload.GroupSummary;
+import com.example.Task_Manager_api.payload.UserSummary;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches which groups each user belongs to and a summary of each group (name,
+ * owner, member count, the first few members and the member ids used for
+ * access checks), so the group sidebar and group headers are served without
+ * touching group_members. GroupService evicts entries once a membership change
+ * commits, on every node through the cluster event bus since these entries
+ * decide access; the TTL only backs that up if an eviction is lost.
+ */
+@Service
+public class GroupCache {
+
+    private static final String EVICT_USERS = ClusterEventBus.NODE_PREFIX + "group-cache/users";
+    private static final String EVICT_GROUPS = ClusterEventBus.NODE_PREFIX + "group-cache/groups";
+
+    private static class Entry<T> {
+        final T value;
+        final long expiresAt;
+
+        Entry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class CachedGroup {
+        final GroupSummary summary;
+        final Set<Long> memberIds;
+
+        CachedGroup(GroupSummary summary, Set<Long> memberIds) {
+            this.summary = summary;
+            this.memberIds = memberIds;
+        }
+    }
+
+    @Value("${groups.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${groups.cache.summary-members:20}")
+    private int summaryMembers;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    // Lazy: the bus feeds TaskChangeFeed, which checks membership here
+    @Lazy
+    @Autowired
+    private ClusterEventBus clusterEventBus;
+
+    private final ConcurrentHashMap<Long, Entry<List<Long>>> groupIdsByUser = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Entry<CachedGroup>> groups = new ConcurrentHashMap<>();
+
+    // Bumped by every eviction; a load that overlapped one is returned but not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<GroupSummary> getGroupsForUser(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry<List<Long>> entry = groupIdsByUser.get(userId);
+        List<Long> groupIds;
+        if (entry != null && entry.expiresAt > now) {
+            groupIds = entry.value;
+        } else {
+            long loadedAt = generation.get();
+            groupIds = List.copyOf(groupRepository.findActiveGroupIdsByMemberId(userId));
+            store(groupIdsByUser, userId, groupIds, loadedAt);
+        }
+        Map<Long, CachedGroup> loaded = getGroups(groupIds);
+        List<GroupSummary> summaries = new ArrayList<>(groupIds.size());
+        for (Long groupId : groupIds) {
+            CachedGroup group = loaded.get(groupId);
+            if (group != null) {
+                summaries.add(group.summary);
+            }
+        }
+        return summaries;
+    }
+
+    // Null when the group doesn't exist or is being deleted
+    public GroupSummary getSummary(Long groupId) {
+        CachedGroup group = getGroups(List.of(groupId)).get(groupId);
+        return group != null ? group.summary : null;
+    }
+
+    public boolean isMember(Long groupId, Long userId) {
+        CachedGroup group = getGroups(List.of(groupId)).get(groupId);
+        return group != null && group.memberIds.contains(userId);
+    }
+
+    public void evictUser(Long userId) {
+        evictUsers(List.of(userId));
+    }
+
+    public void evictUsers(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        AfterCommit.run(() -> clusterEventBus.publish(EVICT_USERS, ids));
+    }
+
+    public void evictGroup(Long groupId) {
+        List<Long> ids = List.of(groupId);
+        AfterCommit.run(() -> clusterEventBus.publish(EVICT_GROUPS, ids));
+    }
+
+    // Delivered on every node, this one included, for evictions published by any of them
+    @EventListener
+    public void onNodeMessage(ClusterEventBus.NodeMessage message) {
+        ConcurrentHashMap<Long, ?> map;
+        if (EVICT_USERS.equals(message.destination())) {
+            map = groupIdsByUser;
+        } else if (EVICT_GROUPS.equals(message.destination())) {
+            map = groups;
+        } else {
+            return;
+        }
+        generation.incrementAndGet();
+        message.payload().forEach(id -> map.remove(id.asLong()));
+    }
+
+    private Map<Long, CachedGroup> getGroups(List<Long> groupIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, CachedGroup> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long groupId : groupIds) {
+            Entry<CachedGroup> entry = groups.get(groupId);
+            if (entry != null && entry.expiresAt > now) {
+                result.put(groupId, entry.value);
+            } else {
+                missing.add(groupId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        // Two queries for all misses: the groups with their owners, then their members
+        long loadedAt = generation.get();
+        Map<Long, List<GroupMemberRow>> membersByGroup = new HashMap<>();
+        for (GroupMemberRow row : groupRepository.findMemberRows(missing)) {
+            membersByGroup.computeIfAbsent(row.getGroupId(), id -> new ArrayList<>()).add(row);
+        }
+        for (Group group : groupRepository.findActiveWithOwnerByIdIn(missing)) {
+            List<GroupMemberRow> rows = membersByGroup.getOrDefault(group.getId(), List.of());
+            Set<Long> memberIds = new HashSet<>();
+            List<UserSummary> firstMembers = new ArrayList<>();
+            for (GroupMemberRow row : rows) {
+                memberIds.add(row.getUserId());
+                if (firstMembers.size() < summaryMembers) {
+                    firstMembers.add(new UserSummary(row.getUserId(), row.getUsername()));
+                }
+            }
+            GroupSummary summary = new GroupSummary(group.getId(), group.getName(),
+                    new UserSummary(group.getOwner().getId(), group.getOwner().getUsername()),
+                    rows.size(), List.copyOf(firstMembers));
+            CachedGroup cached = new CachedGroup(summary, Set.copyOf(memberIds));
+            store(groups, group.getId(), cached, loadedAt);
+            result.put(group.getId(), cached);
+        }
+        return result;
+    }
+
+    private <K, V> void store(ConcurrentHashMap<K, Entry<V>> map, K key, V value, long loadedAt) {
+        map.put(key, new Entry<>(value, System.currentTimeMillis() + ttlSeconds * 1000));
+        // An eviction ran while this was loading; the value may predate it
+        if (generation.get() != loadedAt) {
+            map.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        groupIdsByUser.values().removeIf(entry -> entry.expiresAt <= now);
+        groups.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.GroupDeletionJob;
+import com.example.Task_Manager_api.model.TaskDailyStat;
+import com.example.Task_Manager_api.repository.ActivityLogRepository;
+import com.example.Task_Manager_api.repository.CommentRepository;
+import com.example.Task_Manager_api.repository.GroupDeletionJobRepository;
+import com.example.Task_Manager_api.repository.GroupFlowDayRepository;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.InvitationRepository;
+import com.example.Task_Manager_api.repository.TaskDailyStatRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.TaskStatusEventRepository;
+import com.example.Task_Manager_api.repository.TaskTemplateRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Purges a deleted group's dependent rows in the background. Every chunk is a
+ * set-based DELETE over at most {@code chunkSize} ids in its own short
+ * transaction, so locks are held briefly and a crash loses at most one chunk
+ * of work; unfinished jobs are picked up again on startup and by a periodic
+ * sweep.
+ */
+@Service
+public class GroupDeletionService implements DisposableBean {
+
+    @Value("${groups.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    @Autowired
+    private GroupDeletionJobRepository jobRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private InvitationRepository invitationRepository;
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskDailyStatRepository taskDailyStatRepository;
+
+    @Autowired
+    private GroupFlowDayRepository groupFlowDayRepository;
+
+    @Autowired
+    private TaskStatusEventRepository taskStatusEventRepository;
+
+    @Autowired
+    private TaskTemplateRepository taskTemplateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskChangeService taskChangeService;
+
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "group-deletion");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public void submit(Long jobId) {
+        if (running.add(jobId)) {
+            executor.submit(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    running.remove(jobId);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeUnfinished();
+    }
+
+    @Scheduled(fixedDelayString = "${groups.deletion.resume-interval-ms:300000}")
+    public void resumeUnfinished() {
+        for (GroupDeletionJob job : jobRepository.findByPhaseNot(GroupDeletionJob.Phase.COMPLETED)) {
+            submit(job.getId());
+        }
+    }
+
+    void run(Long jobId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        GroupDeletionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getPhase() == GroupDeletionJob.Phase.COMPLETED) {
+            return;
+        }
+        job.setAttempts(job.getAttempts() + 1);
+        Long groupId = job.getGroupId();
+
+        try {
+            while (job.getPhase() != GroupDeletionJob.Phase.COMPLETED) {
+                switch (job.getPhase()) {
+                    case TASKS -> {
+                        Integer deleted = tx.execute(status -> deleteTaskChunk(groupId));
+                        job.setTasksDeleted(job.getTasksDeleted() + deleted);
+                        if (deleted < chunkSize) {
+                            job.setPhase(GroupDeletionJob.Phase.ARCHIVED_TASKS);
+                        }
+                    }
+                    case ARCHIVED_TASKS -> {
+                        Integer deleted = tx.execute(
+                                status -> taskArchiveService.deleteArchivedChunkForGroup(groupId, chunkSize));
+                        if (deleted < chunkSize) {
+                            job.setPhase(GroupDeletionJob.Phase.INVITATIONS);
+                        }
+                    }
+                    case INVITATIONS -> {
+                        Integer deleted = tx.execute(status -> deleteInvitationChunk(groupId));
+                        job.setInvitationsDeleted(job.getInvitationsDeleted() + deleted);
+                        if (deleted < chunkSize) {
+                            job.setPhase(GroupDeletionJob.Phase.MEMBERSHIPS);
+                        }
+                    }
+                    case MEMBERSHIPS -> {
+                        tx.executeWithoutResult(status -> groupRepository.deleteMemberships(groupId));
+                        job.setPhase(GroupDeletionJob.Phase.GROUP);
+                    }
+                    case GROUP -> {
+                        tx.executeWithoutResult(status -> {
+                            taskDailyStatRepository.deleteByScope(TaskDailyStat.Scope.GROUP, groupId);
+                            groupFlowDayRepository.deleteByGroupId(groupId);
+                            taskStatusEventRepository.deleteByGroupId(groupId);
+                            taskTemplateRepository.deleteByGroupId(groupId);
+                            groupRepository.deleteById(groupId);
+                        });
+                        job.setPhase(GroupDeletionJob.Phase.COMPLETED);
+                    }
+                    default -> {
+                    }
+                }
+                job.setLastError(null);
+                job.setUpdatedAt(LocalDateTime.now());
+                job = jobRepository.save(job);
+            }
+        } catch (Exception e) {
+            String message = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+            job.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+            job.setUpdatedAt(LocalDateTime.now());
+            jobRepository.save(job);
+            System.err.println("Group deletion job " + jobId + " failed, will retry: " + message);
+        }
+    }
+
+    private int deleteTaskChunk(Long groupId) {
+        List<Long> taskIds = taskRepository.findIdsByGroupId(groupId, PageRequest.of(0, chunkSize));
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        taskHierarchyService.removeTasks(taskIds);
+        taskChangeService.recordDeleted(taskIds);
+        activityLogRepository.deleteByTaskIdIn(taskIds);
+        commentRepository.deleteByTaskIdIn(taskIds);
+        return taskRepository.deleteByIdIn(taskIds);
+    }
+
+    private int deleteInvitationChunk(Long groupId) {
+        List<Long> ids = invitationRepository.findIdsByGroupId(groupId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return invitationRepository.deleteByIdIn(ids);
+    }
+
+    public java.util.Optional<GroupDeletionJob> findJob(Long groupId) {
+        return jobRepository.findByGroupId(groupId);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
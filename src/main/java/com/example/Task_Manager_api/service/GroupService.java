@@ -1,11 +1,14 @@
 package com.example.Task_Manager_api.service;
 
 import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.GroupDeletionJob;
 import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.GroupSummary;
+import com.example.Task_Manager_api.payload.UserSummary;
+import com.example.Task_Manager_api.repository.GroupDeletionJobRepository;
 import com.example.Task_Manager_api.repository.GroupRepository;
 import com.example.Task_Manager_api.repository.UserRepository;
 import com.example.Task_Manager_api.repository.TaskRepository;
-import com.example.Task_Manager_api.repository.InvitationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,6 +16,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -28,7 +32,13 @@ public class GroupService {
     private TaskRepository taskRepository;
 
     @Autowired
-    private InvitationRepository invitationRepository;
+    private GroupDeletionJobRepository groupDeletionJobRepository;
+
+    @Autowired
+    private GroupDeletionService groupDeletionService;
+
+    @Autowired
+    private GroupCache groupCache;
 
     public User getCurrentUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
@@ -45,18 +55,50 @@ public class GroupService {
     public Group createGroup(String name) {
         User currentUser = getCurrentUser();
         Group group = new Group(name, currentUser);
-        return groupRepository.save(group);
+        Group saved = groupRepository.save(group);
+        groupCache.evictUser(currentUser.getId());
+        return saved;
     }
 
-    public List<Group> getMyGroups() {
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public List<GroupSummary> getMyGroups() {
         User currentUser = getCurrentUser();
-        return groupRepository.findByMembersContaining(currentUser);
+        return groupCache.getGroupsForUser(currentUser.getId());
     }
 
-    public Group getGroupById(Long id) {
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public GroupSummary getGroupSummary(Long id) {
         User currentUser = getCurrentUser();
-        Group group = groupRepository.findById(id)
+        GroupSummary summary = groupCache.getSummary(id);
+        if (summary == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found");
+        }
+        if (!groupCache.isMember(id, currentUser.getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied to this group");
+        }
+        return summary;
+    }
+
+    // Full member list for pickers; summaries only carry the first few
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public List<UserSummary> getGroupMembers(Long id) {
+        return getGroupById(id).getMembers().stream()
+                .map(member -> new UserSummary(member.getId(), member.getUsername()))
+                .sorted(Comparator.comparing(UserSummary::getUsername))
+                .toList();
+    }
+
+    // Deleted groups disappear immediately, even while their rows are still being purged
+    public Group findActiveGroup(Long id) {
+        return groupRepository.findById(id)
+                .filter(group -> !group.isDeleted())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public Group getGroupById(Long id) {
+        User currentUser = getCurrentUser();
+        Group group = findActiveGroup(id);
 
         if (!group.getMembers().contains(currentUser)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied to this group");
@@ -67,13 +109,14 @@ public class GroupService {
     public void addMember(Group group, User user) {
         group.getMembers().add(user);
         groupRepository.save(group);
+        groupCache.evictUser(user.getId());
+        groupCache.evictGroup(group.getId());
     }
 
     @org.springframework.transaction.annotation.Transactional
     public void leaveGroup(Long groupId) {
         User currentUser = getCurrentUser();
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
+        Group group = findActiveGroup(groupId);
 
         if (group.getOwner().getId().equals(currentUser.getId())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
@@ -86,22 +129,41 @@ public class GroupService {
 
         group.getMembers().remove(currentUser);
         groupRepository.save(group);
+        groupCache.evictUser(currentUser.getId());
+        groupCache.evictGroup(groupId);
     }
 
     @org.springframework.transaction.annotation.Transactional
     public void deleteGroup(Long groupId) {
         User currentUser = getCurrentUser();
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
+        Group group = findActiveGroup(groupId);
 
         if (!group.getOwner().getId().equals(currentUser.getId())) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the owner can delete the group");
         }
 
-        // Delete associated resources
-        invitationRepository.deleteByGroupId(groupId);
-        taskRepository.deleteByGroupId(groupId);
+        // Hide the group now; tasks, comments, activity, invitations and memberships
+        // are removed in bounded chunks by GroupDeletionService
+        group.setDeleted(true);
+        groupRepository.save(group);
+        groupCache.evictGroup(groupId);
+        groupCache.evictUsers(group.getMembers().stream().map(User::getId).toList());
 
-        groupRepository.delete(group);
+        GroupDeletionJob job = groupDeletionJobRepository
+                .save(new GroupDeletionJob(groupId, taskRepository.countByGroupId(groupId)));
+        AfterCommit.run(() -> groupDeletionService.submit(job.getId()));
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public GroupDeletionJob getDeletionStatus(Long groupId) {
+        User currentUser = getCurrentUser();
+        GroupDeletionJob job = groupDeletionService.findJob(groupId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No deletion in progress"));
+        groupRepository.findById(groupId).ifPresent(group -> {
+            if (!group.getOwner().getId().equals(currentUser.getId())) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the owner can view deletion progress");
+            }
+        });
+        return job;
     }
 }
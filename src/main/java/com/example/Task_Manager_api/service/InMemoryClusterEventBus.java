@@ -0,0 +1,36 @@
+package com.example.Task_Manager_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+// Single-node deployments: the local broker is the whole cluster
+@Service
+@ConditionalOnProperty(name = "cluster.event-bus", havingValue = "memory", matchIfMissing = true)
+public class InMemoryClusterEventBus implements ClusterEventBus {
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public void publish(String destination, Object payload) {
+        if (ClusterEventBus.isNodeDestination(destination)) {
+            eventPublisher.publishEvent(new NodeMessage(destination, objectMapper.valueToTree(payload)));
+            return;
+        }
+        messagingTemplate.convertAndSend(destination, payload);
+        taskChangeFeed.append(destination, payload);
+    }
+}
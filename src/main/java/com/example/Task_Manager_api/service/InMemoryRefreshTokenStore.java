@@ -0,0 +1,82 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.repository.UserRepository;
+import com.example.Task_Manager_api.security.TokenHasher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-node store kept entirely in memory. Tokens are rotated on every
+ * redeem, so a leaked token stops working as soon as the real client refreshes.
+ * Tokens do not survive a restart; users simply sign in again.
+ */
+@Service
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    @Value("${jwt.refresh-expiration-in-ms:86400000}")
+    private Long refreshTokenDurationMs;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<String, Entry> byHash = new ConcurrentHashMap<>();
+    private final Map<Long, String> hashByUser = new ConcurrentHashMap<>();
+
+    @Override
+    public String issue(Long userId) {
+        String rawToken = TokenHasher.newToken();
+        String hash = TokenHasher.sha256Hex(rawToken);
+        byHash.put(hash, new Entry(userId, Instant.now().plusMillis(refreshTokenDurationMs)));
+        String previous = hashByUser.put(userId, hash);
+        if (previous != null) {
+            byHash.remove(previous);
+        }
+        return rawToken;
+    }
+
+    @Override
+    public Optional<Grant> redeem(String rawToken) {
+        // remove() makes redemption single-use even when two refreshes race
+        Entry entry = byHash.remove(TokenHasher.sha256Hex(rawToken));
+        if (entry == null || entry.expiresAt.isBefore(Instant.now())) {
+            return Optional.empty();
+        }
+        String rotated = issue(entry.userId);
+        return userRepository.findById(entry.userId).map(user -> new Grant(user, rotated));
+    }
+
+    @Override
+    public int purgeExpired(int batchSize) {
+        Instant now = Instant.now();
+        int removed = 0;
+        Iterator<Map.Entry<String, Entry>> it = byHash.entrySet().iterator();
+        while (it.hasNext() && removed < batchSize) {
+            Map.Entry<String, Entry> e = it.next();
+            if (e.getValue().expiresAt.isBefore(now)) {
+                it.remove();
+                hashByUser.remove(e.getValue().userId, e.getKey());
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static final class Entry {
+        private final Long userId;
+        private final Instant expiresAt;
+
+        private Entry(Long userId, Instant expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -3,18 +3,38 @@ package com.example.Task_Manager_api.service;
 import com.example.Task_Manager_api.model.Group;
 import com.example.Task_Manager_api.model.Invitation;
 import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.BulkInvitationResult;
+import com.example.Task_Manager_api.payload.GroupSummary;
 import com.example.Task_Manager_api.repository.InvitationRepository;
 import com.example.Task_Manager_api.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 @Service
 public class InvitationService {
 
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
     @Autowired
     private InvitationRepository invitationRepository;
 
@@ -27,7 +47,20 @@ public class InvitationService {
     @Autowired
     private EmailService emailService;
 
-    public Invitation inviteMember(Long groupId, String email) {
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${invitations.bulk-max:500}")
+    private int bulkMax;
+
+    public Invitation inviteMember(Long groupId, String rawEmail) {
+        String email = rawEmail == null ? "" : rawEmail.trim().toLowerCase(Locale.ROOT);
         User currentUser = groupService.getCurrentUser();
         Group group = groupService.getGroupById(groupId);
 
@@ -40,8 +73,14 @@ public class InvitationService {
                     "Invitation already sent to this email for this group");
         });
 
-        Invitation invitation = new Invitation(email, group);
-        Invitation saved = invitationRepository.save(invitation);
+        Invitation saved;
+        try {
+            saved = invitationRepository.saveAndFlush(new Invitation(email, group));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent invite for the same address got there first
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Invitation already sent to this email for this group");
+        }
 
         try {
             emailService.sendInvitationEmail(email, group.getName(), currentUser.getUsername());
@@ -50,10 +89,100 @@ public class InvitationService {
             // Better to fail if it's the primary way they know.
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to send invitation email");
         }
+        notificationService.sendToEmails(List.of(email), NotificationService.GROUP_INVITATION,
+                currentUser.getUsername() + " invited you to join " + group.getName(), groupId);
 
         return saved;
     }
 
+    /**
+     * Invites many addresses at once: one query finds existing members, new
+     * invitations go in as a single JDBC batch that skips addresses already
+     * invited, and emails are sent after commit by EmailService's sender pool.
+     * Delivery failures are reported per address and do not undo the invitation.
+     */
+    public BulkInvitationResult inviteMembers(Long groupId, List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No emails given");
+        }
+        if (emails.size() > bulkMax) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + bulkMax + " emails per request");
+        }
+        User currentUser = groupService.getCurrentUser();
+        GroupSummary group = groupService.getGroupSummary(groupId);
+        if (!group.getOwner().getId().equals(currentUser.getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only group owner can invite members");
+        }
+
+        List<BulkInvitationResult.Item> results = new ArrayList<>();
+        Map<String, BulkInvitationResult.Item> candidates = new LinkedHashMap<>();
+        for (String raw : emails) {
+            String email = raw == null ? "" : raw.trim().toLowerCase(Locale.ROOT);
+            BulkInvitationResult.Item item = new BulkInvitationResult.Item(email, BulkInvitationResult.Status.INVITED);
+            if (!EMAIL.matcher(email).matches()) {
+                item.setStatus(BulkInvitationResult.Status.INVALID);
+            } else if (candidates.containsKey(email)) {
+                item.setStatus(BulkInvitationResult.Status.DUPLICATE);
+            } else {
+                candidates.put(email, item);
+            }
+            results.add(item);
+        }
+
+        List<String> toSend = new TransactionTemplate(transactionManager).execute(status -> {
+            if (candidates.isEmpty()) {
+                return List.<String>of();
+            }
+            Set<String> members = new HashSet<>(invitationRepository.findMemberEmails(groupId, candidates.keySet()));
+            List<String> fresh = new ArrayList<>();
+            candidates.forEach((email, item) -> {
+                if (members.contains(email)) {
+                    item.setStatus(BulkInvitationResult.Status.ALREADY_MEMBER);
+                } else {
+                    fresh.add(email);
+                }
+            });
+            if (fresh.isEmpty()) {
+                return fresh;
+            }
+
+            // The unique (group_id, email) key decides who is already invited, so a concurrent invite
+            // cannot slip in between a check and the insert. Batched inserts may not report per-row
+            // counts, so the rows written here are read back by their invitedAt.
+            LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            jdbcTemplate.batchUpdate(
+                    "INSERT IGNORE INTO invitations (email, group_id, status, invited_at) VALUES (?, ?, ?, ?)",
+                    fresh, fresh.size(), (ps, email) -> {
+                        ps.setString(1, email);
+                        ps.setLong(2, groupId);
+                        ps.setString(3, Invitation.InvitationStatus.PENDING.name());
+                        ps.setTimestamp(4, Timestamp.valueOf(now));
+                    });
+            Set<String> inserted = new HashSet<>(invitationRepository.findEmailsInvitedAt(groupId, fresh, now));
+            fresh.removeIf(email -> {
+                if (inserted.contains(email)) {
+                    return false;
+                }
+                candidates.get(email).setStatus(BulkInvitationResult.Status.ALREADY_INVITED);
+                return true;
+            });
+            return fresh;
+        });
+
+        notificationService.sendToEmails(toSend, NotificationService.GROUP_INVITATION,
+                currentUser.getUsername() + " invited you to join " + group.getName(), groupId);
+        if (!toSend.isEmpty()) {
+            Set<String> failed = emailService.sendInvitationEmails(toSend, group.getName(), currentUser.getUsername());
+            for (String email : failed) {
+                candidates.get(email).setStatus(BulkInvitationResult.Status.EMAIL_FAILED);
+            }
+        }
+        return new BulkInvitationResult(results);
+    }
+
+    // Invitation status and membership change together; GroupService.addMember evicts the cached groups
+    @Transactional
     public void acceptInvitation(Long invitationId) {
         User currentUser = groupService.getCurrentUser();
         Invitation invitation = invitationRepository.findById(invitationId)
@@ -68,6 +197,10 @@ public class InvitationService {
                     "Invitation is already " + invitation.getStatus());
         }
 
+        if (invitation.getGroup().isDeleted()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found");
+        }
+
         invitation.setStatus(Invitation.InvitationStatus.ACCEPTED);
         invitationRepository.save(invitation);
 
@@ -94,6 +227,7 @@ public class InvitationService {
 
     public List<Invitation> getMyPendingInvitations() {
         User currentUser = groupService.getCurrentUser();
-        return invitationRepository.findByEmailAndStatus(currentUser.getEmail(), Invitation.InvitationStatus.PENDING);
+        return invitationRepository.findByEmailAndStatus(currentUser.getEmail().toLowerCase(Locale.ROOT),
+                Invitation.InvitationStatus.PENDING);
     }
 }
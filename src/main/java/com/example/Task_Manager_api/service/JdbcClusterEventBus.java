@@ -0,0 +1,175 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.ClusterEvent;
+import com.example.Task_Manager_api.repository.ClusterEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster fan-out through the shared database, no external broker needed.
+ * Published events are delivered to the local broker immediately and appended
+ * to {@code cluster_events}; every node polls for rows past the last id it
+ * has seen and replays other nodes' events to its own clients.
+ */
+@Service
+@ConditionalOnProperty(name = "cluster.event-bus", havingValue = "jdbc")
+public class JdbcClusterEventBus implements ClusterEventBus, DisposableBean {
+
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${cluster.jdbc.poll-interval-ms:200}")
+    private long pollIntervalMs;
+
+    @Value("${cluster.jdbc.batch-size:500}")
+    private int batchSize;
+
+    // How long to wait for a lower id that was allocated but not yet committed
+    @Value("${cluster.jdbc.gap-grace-ms:2000}")
+    private long gapGraceMs;
+
+    @Value("${cluster.jdbc.retention-minutes:10}")
+    private long retentionMinutes;
+
+    @Autowired
+    private ClusterEventRepository clusterEventRepository;
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${tasks.stream.buffer-size:4096}")
+    private int feedBufferSize;
+
+    private String nodeId;
+    private TransactionTemplate requiresNew;
+    private volatile long lastSeenId;
+    private long gapSince;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "cluster-event-poller");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        nodeId = configuredNodeId.isBlank() ? UUID.randomUUID().toString() : configuredNodeId;
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        lastSeenId = clusterEventRepository.findMaxId();
+        warmTaskChangeFeed();
+
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purge, 1, 1, TimeUnit.MINUTES);
+    }
+
+    // Clients reconnecting after a restart resume from the retained rows instead of resyncing
+    private void warmTaskChangeFeed() {
+        List<ClusterEvent> recent = clusterEventRepository.findByIdLessThanEqualOrderByIdDesc(lastSeenId,
+                PageRequest.of(0, feedBufferSize));
+        taskChangeFeed.resetCoverage(recent.isEmpty() ? lastSeenId : recent.get(recent.size() - 1).getId() - 1);
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            ClusterEvent event = recent.get(i);
+            taskChangeFeed.append(event.getId(), event.getDestination(), event.getPayload());
+        }
+    }
+
+    @Override
+    public void publish(String destination, Object payload) {
+        if (ClusterEventBus.isNodeDestination(destination)) {
+            eventPublisher.publishEvent(new NodeMessage(destination, objectMapper.valueToTree(payload)));
+        } else {
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            // Callers may be inside an afterCommit callback, so never join their transaction
+            requiresNew.executeWithoutResult(status -> clusterEventRepository
+                    .save(new ClusterEvent(nodeId, destination, json)));
+        } catch (Exception e) {
+            // Usually after the caller's transaction committed: the change is saved, other nodes just miss this push
+            System.err.println("Failed to record cluster event for " + destination + ": " + e.getMessage());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    void poll() {
+        try {
+            List<ClusterEvent> batch = clusterEventRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId,
+                    PageRequest.of(0, batchSize));
+            long now = System.currentTimeMillis();
+            for (ClusterEvent event : batch) {
+                if (event.getId() != lastSeenId + 1) {
+                    if (gapSince == 0) {
+                        gapSince = now;
+                    }
+                    if (now - gapSince < gapGraceMs) {
+                        break;
+                    }
+                }
+                gapSince = 0;
+                lastSeenId = event.getId();
+                taskChangeFeed.append(event.getId(), event.getDestination(), event.getPayload());
+                if (nodeId.equals(event.getNodeId())) {
+                    continue;
+                }
+                if (ClusterEventBus.isNodeDestination(event.getDestination())) {
+                    eventPublisher.publishEvent(new NodeMessage(event.getDestination(),
+                            objectMapper.readTree(event.getPayload())));
+                } else {
+                    messagingTemplate.convertAndSend(event.getDestination(),
+                            objectMapper.readTree(event.getPayload()));
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Cluster event poll failed: " + e.getMessage());
+        }
+    }
+
+    void purge() {
+        try {
+            clusterEventRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(retentionMinutes));
+        } catch (Exception e) {
+            System.err.println("Cluster event purge failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
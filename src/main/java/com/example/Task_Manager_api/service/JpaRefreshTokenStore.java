@@ -0,0 +1,62 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.RefreshToken;
+import com.example.Task_Manager_api.repository.RefreshTokenRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import com.example.Task_Manager_api.security.TokenHasher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    @Value("${jwt.refresh-expiration-in-ms:86400000}")
+    private Long refreshTokenDurationMs;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public String issue(Long userId) {
+        String rawToken = TokenHasher.newToken();
+        String hash = TokenHasher.sha256Hex(rawToken);
+        Instant expiry = Instant.now().plusMillis(refreshTokenDurationMs);
+
+        // One row per user: a returning user is a single UPDATE, first login falls back to INSERT
+        if (refreshTokenRepository.replaceForUser(userId, hash, expiry) == 0) {
+            RefreshToken refreshToken = new RefreshToken();
+            refreshToken.setUser(userRepository.getReferenceById(userId));
+            refreshToken.setTokenHash(hash);
+            refreshToken.setExpiryDate(expiry);
+            refreshTokenRepository.save(refreshToken);
+        }
+        return rawToken;
+    }
+
+    @Override
+    public Optional<Grant> redeem(String rawToken) {
+        return refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex(rawToken))
+                .filter(token -> token.getExpiryDate().isAfter(Instant.now()))
+                .map(token -> new Grant(token.getUser(), rawToken));
+    }
+
+    @Override
+    public int purgeExpired(int batchSize) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(Instant.now(), PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIdIn(ids);
+    }
+}
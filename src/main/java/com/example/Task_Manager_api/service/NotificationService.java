@@ -0,0 +1,297 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Notification;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.CursorPage;
+import com.example.Task_Manager_api.payload.NotificationEvent;
+import com.example.Task_Manager_api.repository.NotificationRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user notification inbox. Callers hand notifications over inside their
+ * own transaction; once it commits they are written on a small writer pool and
+ * pushed to each recipient's /user/queue/notifications along with the new
+ * unread count. Unread counts live in memory, loaded from the table on first
+ * use and adjusted as entries are written and read, so the badge never needs a
+ * count query; the TTL bounds drift from writes made on other nodes.
+ */
+@Service
+public class NotificationService implements DisposableBean {
+
+    public static final String TASK_ASSIGNED = "TASK_ASSIGNED";
+    public static final String COMMENT_ADDED = "COMMENT_ADDED";
+    public static final String TASK_DUE_SOON = "TASK_DUE_SOON";
+    public static final String GROUP_INVITATION = "GROUP_INVITATION";
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_MARK_READ = 500;
+
+    // A notification for one recipient, captured before the caller's transaction ends
+    public record Draft(Long userId, String username, String type, String message, Long taskId, Long groupId) {
+
+        public static Draft to(User user, String type, String message, Long taskId, Long groupId) {
+            return new Draft(user.getId(), user.getUsername(), type, message, taskId, groupId);
+        }
+    }
+
+    private static class Counter {
+        final AtomicLong unread;
+        final long expiresAt;
+
+        Counter(long unread, long expiresAt) {
+            this.unread = new AtomicLong(unread);
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Value("${notifications.unread-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${notifications.batch-size:200}")
+    private int batchSize;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClusterEventBus clusterEventBus;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // Bumped by every adjustment; a count loaded across one is returned but not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ExecutorService writers;
+
+    public NotificationService(@Value("${notifications.writer-threads:2}") int writerThreads) {
+        this.writers = Executors.newFixedThreadPool(writerThreads, r -> {
+            Thread t = new Thread(r, "notification-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private User getCurrentUser() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        String username;
+        if (principal instanceof UserDetails) {
+            username = ((UserDetails) principal).getUsername();
+        } else {
+            username = principal.toString();
+        }
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found"));
+    }
+
+    public void send(Draft draft) {
+        send(List.of(draft));
+    }
+
+    public void send(List<Draft> drafts) {
+        submit(drafts, null);
+    }
+
+    // At most one notification per recipient, task and type per day (reminder jobs run hourly)
+    public void sendOncePerDay(List<Draft> drafts) {
+        submit(drafts, LocalDate.now().atStartOfDay());
+    }
+
+    // Invitations go to addresses; only those that belong to an account get an inbox entry
+    public void sendToEmails(Collection<String> emails, String type, String message, Long groupId) {
+        List<String> addresses = List.copyOf(emails);
+        if (addresses.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> writers.execute(() -> {
+            try {
+                List<Draft> drafts = new ArrayList<>();
+                for (int i = 0; i < addresses.size(); i += batchSize) {
+                    for (User user : userRepository.findByEmailIn(
+                            addresses.subList(i, Math.min(i + batchSize, addresses.size())))) {
+                        drafts.add(Draft.to(user, type, message, null, groupId));
+                    }
+                }
+                write(drafts, null);
+            } catch (Exception e) {
+                System.err.println("Failed to write invitation notifications: " + e.getMessage());
+            }
+        }));
+    }
+
+    private void submit(List<Draft> drafts, LocalDateTime dedupeSince) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        List<Draft> copy = List.copyOf(drafts);
+        AfterCommit.run(() -> writers.execute(() -> {
+            try {
+                write(copy, dedupeSince);
+            } catch (Exception e) {
+                System.err.println("Failed to write " + copy.size() + " notifications: " + e.getMessage());
+            }
+        }));
+    }
+
+    private void write(List<Draft> drafts, LocalDateTime dedupeSince) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < drafts.size(); i += batchSize) {
+            List<Draft> batch = drafts.subList(i, Math.min(i + batchSize, drafts.size()));
+            List<Draft> written = new ArrayList<>();
+            List<Notification> saved = tx.execute(status -> {
+                Set<String> skip = dedupeSince != null ? alreadyNotified(batch, dedupeSince) : Set.of();
+                List<Notification> rows = new ArrayList<>();
+                for (Draft draft : batch) {
+                    if (!skip.contains(draft.userId() + ":" + draft.taskId())) {
+                        rows.add(new Notification(draft.userId(), draft.type(), draft.message(), draft.taskId(),
+                                draft.groupId()));
+                        written.add(draft);
+                    }
+                }
+                return notificationRepository.saveAll(rows);
+            });
+            for (int j = 0; j < saved.size(); j++) {
+                Draft draft = written.get(j);
+                push(draft.username(), new NotificationEvent(saved.get(j), adjust(draft.userId(), 1)));
+            }
+        }
+    }
+
+    private Set<String> alreadyNotified(List<Draft> batch, LocalDateTime since) {
+        Set<String> pairs = new HashSet<>();
+        batch.stream().map(Draft::type).distinct().forEach(type -> {
+            List<Long> taskIds = batch.stream().filter(d -> d.type().equals(type) && d.taskId() != null)
+                    .map(Draft::taskId).distinct().toList();
+            if (!taskIds.isEmpty()) {
+                pairs.addAll(notificationRepository.findNotifiedPairs(type, taskIds, since));
+            }
+        });
+        return pairs;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<Notification> getInbox(Long cursor, int size) {
+        User currentUser = getCurrentUser();
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to know whether another page exists
+        List<Notification> rows = notificationRepository.findInboxPage(currentUser.getId(),
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Notification> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, items.get(pageSize - 1).getId());
+    }
+
+    public long getUnreadCount() {
+        return getUnreadCount(getCurrentUser().getId());
+    }
+
+    public long markRead(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No notification ids given");
+        }
+        if (ids.size() > MAX_MARK_READ) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_MARK_READ + " ids per request");
+        }
+        User currentUser = getCurrentUser();
+        Integer changed = new TransactionTemplate(transactionManager)
+                .execute(status -> notificationRepository.markRead(currentUser.getId(), ids));
+        return readChanged(currentUser, changed);
+    }
+
+    public long markAllRead() {
+        User currentUser = getCurrentUser();
+        Integer changed = new TransactionTemplate(transactionManager)
+                .execute(status -> notificationRepository.markAllRead(currentUser.getId()));
+        return readChanged(currentUser, changed);
+    }
+
+    // Other tabs and devices of the same user update their badge from the push
+    private long readChanged(User user, int changed) {
+        if (changed == 0) {
+            return getUnreadCount(user.getId());
+        }
+        long unread = adjust(user.getId(), -changed);
+        push(user.getUsername(), new NotificationEvent(null, unread));
+        return unread;
+    }
+
+    private long getUnreadCount(Long userId) {
+        long now = System.currentTimeMillis();
+        Counter counter = counters.get(userId);
+        if (counter != null && counter.expiresAt > now) {
+            return counter.unread.get();
+        }
+        long loadedAt = generation.get();
+        long unread = notificationRepository.countUnread(userId);
+        counters.put(userId, new Counter(unread, now + ttlSeconds * 1000));
+        // Entries were written or read while this was loading; the count may predate them
+        if (generation.get() != loadedAt) {
+            counters.remove(userId);
+        }
+        return unread;
+    }
+
+    // Called once the change has committed
+    private long adjust(Long userId, long delta) {
+        generation.incrementAndGet();
+        Counter counter = counters.get(userId);
+        if (counter != null && counter.expiresAt > System.currentTimeMillis()) {
+            return counter.unread.updateAndGet(value -> Math.max(0, value + delta));
+        }
+        return getUnreadCount(userId);
+    }
+
+    private void push(String username, NotificationEvent event) {
+        try {
+            clusterEventBus.publish("/user/" + username + "/queue/notifications", event);
+        } catch (Exception e) {
+            System.err.println("Failed to push notification to " + username + ": " + e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        counters.values().removeIf(counter -> counter.expiresAt <= now);
+    }
+
+    @Override
+    public void destroy() {
+        writers.shutdownNow();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.Task_Manager_api.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The subset of RFC 5545 RRULE used by task templates: FREQ=DAILY|WEEKLY|MONTHLY
+ * with INTERVAL, BYDAY (weekly, e.g. MO,WE), BYMONTHDAY (monthly, a single day),
+ * COUNT and UNTIL (yyyyMMdd). Occurrences are whole days counted from the
+ * template's start date; as in RFC 5545, months without the requested day are
+ * skipped rather than clamped.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_INTERVAL = 366;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer byMonthDay;
+    private final Integer count;
+    private final LocalDate until;
+
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer byMonthDay,
+            Integer count, LocalDate until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+        this.count = count;
+        this.until = until;
+    }
+
+    // Throws IllegalArgumentException with a message fit for the client
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule is required");
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer byMonthDay = null;
+        Integer count = null;
+        LocalDate until = null;
+
+        String body = rule.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) {
+            body = body.substring("RRULE:".length());
+        }
+        try {
+            for (String part : body.split(";")) {
+                String[] pair = part.split("=", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Malformed rule part '" + part + "'");
+                }
+                String value = pair[1];
+                switch (pair[0]) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(dayOf(day));
+                        }
+                    }
+                    case "BYMONTHDAY" -> byMonthDay = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value,
+                            UNTIL_FORMAT);
+                    default -> throw new IllegalArgumentException("Unsupported rule part " + pair[0]);
+                }
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed recurrence rule: " + rule);
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("INTERVAL must be between 1 and " + MAX_INTERVAL);
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        if (byMonthDay != null && (frequency != Frequency.MONTHLY || byMonthDay < 1 || byMonthDay > 31)) {
+            throw new IllegalArgumentException("BYMONTHDAY must be 1-31 with FREQ=MONTHLY");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("COUNT must be positive");
+        }
+        return new RecurrenceRule(frequency, interval, byDay, byMonthDay, count, until);
+    }
+
+    private static DayOfWeek dayOf(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code) && code.length() == 2) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Unknown day '" + code + "'");
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    // The first occurrence on or after start, or null if the rule never matches
+    public LocalDate first(LocalDate start) {
+        return onOrAfter(start, start);
+    }
+
+    // The first occurrence strictly after date, or null once the rule has ended (UNTIL)
+    public LocalDate next(LocalDate start, LocalDate date) {
+        return onOrAfter(start, date.plusDays(1));
+    }
+
+    private LocalDate onOrAfter(LocalDate start, LocalDate from) {
+        LocalDate candidate = from.isBefore(start) ? start : from;
+        LocalDate result = switch (frequency) {
+            case DAILY -> {
+                long offset = ChronoUnit.DAYS.between(start, candidate) % interval;
+                yield offset == 0 ? candidate : candidate.plusDays(interval - offset);
+            }
+            case WEEKLY -> nextWeekly(start, candidate);
+            case MONTHLY -> nextMonthly(start, candidate);
+        };
+        return result == null || until != null && result.isAfter(until) ? null : result;
+    }
+
+    private LocalDate nextWeekly(LocalDate start, LocalDate candidate) {
+        Set<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(start.getDayOfWeek()) : byDay;
+        LocalDate firstWeek = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        // At most one full cycle of weeks separates the candidate from the next match
+        for (int i = 0; i < 7 * (interval + 1); i++) {
+            LocalDate day = candidate.plusDays(i);
+            long week = ChronoUnit.WEEKS.between(firstWeek, day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+            if (week % interval == 0 && days.contains(day.getDayOfWeek())) {
+                return day;
+            }
+        }
+        throw new IllegalStateException("No weekly occurrence found");
+    }
+
+    private LocalDate nextMonthly(LocalDate start, LocalDate candidate) {
+        int dayOfMonth = byMonthDay != null ? byMonthDay : start.getDayOfMonth();
+        YearMonth firstMonth = YearMonth.from(start);
+        YearMonth month = YearMonth.from(candidate);
+        long offset = ChronoUnit.MONTHS.between(firstMonth, month) % interval;
+        if (offset != 0) {
+            month = month.plusMonths(interval - offset);
+        }
+        // Skips months that are too short. Some combinations never match (the 30th every 12 months
+        // from February), so give up after eight years' worth of steps
+        for (int i = 0; i < 12 * 8; i++) {
+            if (dayOfMonth <= month.lengthOfMonth()) {
+                LocalDate day = month.atDay(dayOfMonth);
+                if (!day.isBefore(candidate)) {
+                    return day;
+                }
+            }
+            month = month.plusMonths(interval);
+        }
+        return null;
+    }
+}
@@ -1,53 +1,38 @@
 package com.example.Task_Manager_api.service;
 
-import com.example.Task_Manager_api.model.RefreshToken;
-import com.example.Task_Manager_api.repository.RefreshTokenRepository;
-import com.example.Task_Manager_api.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Instant;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class RefreshTokenService {
-    @Value("${jwt.refresh-expiration-in-ms:86400000}")
-    private Long refreshTokenDurationMs;
 
-    @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    @Value("${jwt.refresh-purge-batch-size:500}")
+    private int purgeBatchSize;
 
     @Autowired
-    private UserRepository userRepository;
-
-    public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
-    }
-
-    public RefreshToken createRefreshToken(Long userId) {
-        RefreshToken refreshToken = new RefreshToken();
-
-        refreshToken.setUser(userRepository.findById(userId).get());
-        refreshToken.setExpiryDate(Instant.now().plusMillis(refreshTokenDurationMs));
-        refreshToken.setToken(UUID.randomUUID().toString());
+    private RefreshTokenStore refreshTokenStore;
 
-        refreshToken = refreshTokenRepository.save(refreshToken);
-        return refreshToken;
+    public String createRefreshToken(Long userId) {
+        return refreshTokenStore.issue(userId);
     }
 
-    public RefreshToken verifyExpiration(RefreshToken token) {
-        if (token.getExpiryDate().isBefore(Instant.now())) {
-            refreshTokenRepository.delete(token);
-            throw new RuntimeException("Refresh token was expired. Please make a new signin request");
-        }
-        return token;
+    public Optional<RefreshTokenStore.Grant> redeem(String token) {
+        return refreshTokenStore.redeem(token);
     }
 
-    @Transactional
-    public int deleteByUserId(Long userId) {
-        return refreshTokenRepository.deleteByUser(userRepository.findById(userId).get());
+    /**
+     * Sweeps expired tokens in small batches so the table doesn't grow forever
+     * and no single delete holds locks for long.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    public void purgeExpiredTokens() {
+        int removed;
+        do {
+            removed = refreshTokenStore.purgeExpired(purgeBatchSize);
+        } while (removed == purgeBatchSize);
     }
 }
@@ -0,0 +1,39 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.User;
+
+import java.util.Optional;
+
+/**
+ * Persistence for refresh tokens. Implementations only ever see raw tokens on
+ * the way in and out; what they keep is keyed by the token's SHA-256 hash.
+ */
+public interface RefreshTokenStore {
+
+    /** Issues a new token for the user, replacing any previous one, and returns the raw value. */
+    String issue(Long userId);
+
+    /** Resolves a raw token to its user and the token the client should keep using. */
+    Optional<Grant> redeem(String rawToken);
+
+    /** Removes up to {@code batchSize} expired tokens and returns how many were removed. */
+    int purgeExpired(int batchSize);
+
+    class Grant {
+        private final User user;
+        private final String refreshToken;
+
+        public Grant(User user, String refreshToken) {
+            this.user = user;
+            this.refreshToken = refreshToken;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+}
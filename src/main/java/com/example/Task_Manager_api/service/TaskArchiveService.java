@@ -0,0 +1,142 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.ArchivedTask;
+import com.example.Task_Manager_api.payload.CursorPage;
+import com.example.Task_Manager_api.repository.ActivityLogRepository;
+import com.example.Task_Manager_api.repository.ArchivedTaskRepository;
+import com.example.Task_Manager_api.repository.CommentRepository;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Keeps the live task table to the working set: tasks completed more than
+ * {@code archive.completed-after-days} ago are moved, with their comments and
+ * activity, into the archive tables by INSERT ... SELECT + DELETE in batches.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Value("${archive.completed-after-days:180}")
+    private int completedAfterDays;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskChangeService taskChangeService;
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void archiveCompletedTasks() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(completedAfterDays);
+
+        int moved;
+        do {
+            moved = tx.execute(status -> archiveBatch(cutoff));
+        } while (moved == batchSize);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedTaskRepository.archiveTasks(ids, LocalDateTime.now());
+        archivedTaskRepository.archiveComments(ids);
+        archivedTaskRepository.archiveActivityLogs(ids);
+        // Archived tasks leave GET /api/tasks, so synced copies drop them too
+        taskChangeService.recordDeleted(ids);
+        activityLogRepository.deleteByTaskIdIn(ids);
+        commentRepository.deleteByTaskIdIn(ids);
+        taskRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+
+    // Moves one task and its history back into the live tables, keeping its id; its subtask and
+    // dependency rows were never removed on archive, so it comes back under the same parent and blockers
+    @Transactional
+    public void restore(Long taskId) {
+        ArchivedTask archived = archivedTaskRepository.findById(taskId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+        // A live row in a deleted group would block the purge from removing the group itself. The lock
+        // makes a concurrent deleteGroup wait, so its purge then sees and removes this task
+        if (archived.getGroupId() != null) {
+            groupRepository.findForUpdate(archived.getGroupId())
+                    .filter(group -> !group.isDeleted())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
+        }
+        List<Long> ids = List.of(taskId);
+        archivedTaskRepository.restoreTask(taskId);
+        archivedTaskRepository.restoreComments(taskId);
+        archivedTaskRepository.restoreActivityLogs(taskId);
+        taskChangeService.restored(taskId);
+        archivedTaskRepository.deleteArchivedActivityLogs(ids);
+        archivedTaskRepository.deleteArchivedComments(ids);
+        archivedTaskRepository.deleteArchivedTasks(ids);
+    }
+
+    public java.util.Optional<ArchivedTask> findArchived(Long taskId) {
+        return archivedTaskRepository.findById(taskId);
+    }
+
+    public CursorPage<ArchivedTask> getArchivedTasks(Long userId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ArchivedTask> rows = archivedTaskRepository.findPageForUser(userId,
+                cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<ArchivedTask> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, items.get(pageSize - 1).getId());
+    }
+
+    // Used by the group purge: drops archived tasks of a deleted group, one chunk at a time
+    public int deleteArchivedChunkForGroup(Long groupId, int chunkSize) {
+        List<Long> ids = archivedTaskRepository.findIdsByGroupId(groupId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        taskHierarchyService.removeTasks(ids);
+        archivedTaskRepository.deleteArchivedActivityLogs(ids);
+        archivedTaskRepository.deleteArchivedComments(ids);
+        return archivedTaskRepository.deleteArchivedTasks(ids);
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.Task_Manager_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resumable task change stream for GET /api/tasks/stream. The cluster event
+ * bus appends every task broadcast it delivers on this node to a ring buffer;
+ * a client reconnecting with Last-Event-ID is replayed what it missed while
+ * that is still buffered and told to resync otherwise. With the JDBC bus the
+ * ids are cluster_events row ids, so they mean the same thing on every node
+ * and a restarted node refills its buffer from the table.
+ */
+@Service
+public class TaskChangeFeed implements DisposableBean {
+
+    private static final Pattern GROUP_TOPIC = Pattern.compile("^/topic/groups/(\\d+)/tasks$");
+
+    private static class Subscriber {
+        final SseEmitter emitter;
+        final Long userId;
+        long lastSentId;
+
+        Subscriber(SseEmitter emitter, Long userId) {
+            this.emitter = emitter;
+            this.userId = userId;
+        }
+    }
+
+    private record Entry(long id, String destination, String json) {
+    }
+
+    @Value("${tasks.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GroupCache groupCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Ring buffer: entries[(start + i) % length] for i < size, ids ascending
+    private final Entry[] entries;
+    private int start;
+    private int size;
+    // Every event with a larger id is still buffered; older ids need a resync
+    private long coveredAfter;
+    // Used by the in-memory bus; starting from the clock keeps ids increasing across restarts
+    private long nextLocalId = System.currentTimeMillis() * 1000;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // One thread writes to every stream, so replay and live events can't interleave out of order
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "task-stream-dispatcher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TaskChangeFeed(@Value("${tasks.stream.buffer-size:4096}") int bufferSize) {
+        this.entries = new Entry[bufferSize];
+        this.coveredAfter = nextLocalId;
+    }
+
+    // Plain JDBC on purpose: the stream request stays open for up to timeout-ms, and with open-in-view
+    // a repository call would leave its EntityManager holding a pooled connection all that time
+    private Long getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        String username;
+        if (principal instanceof UserDetails) {
+            username = ((UserDetails) principal).getUsername();
+        } else {
+            username = principal.toString();
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM users WHERE username = ?", Long.class, username);
+        if (ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User not found");
+        }
+        return ids.get(0);
+    }
+
+    public static boolean isTaskDestination(String destination) {
+        return "/topic/tasks".equals(destination) || GROUP_TOPIC.matcher(destination).matches();
+    }
+
+    // In-memory bus: this node numbers the events
+    public void append(String destination, Object payload) {
+        if (!isTaskDestination(destination)) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            synchronized (this) {
+                add(new Entry(++nextLocalId, destination, json));
+            }
+            dispatcher.execute(this::deliver);
+        } catch (JsonProcessingException e) {
+            System.err.println("Failed to serialize task change for " + destination + ": " + e.getMessage());
+        }
+    }
+
+    // JDBC bus: ids come from cluster_events and arrive in order
+    public void append(long id, String destination, String json) {
+        if (!isTaskDestination(destination)) {
+            return;
+        }
+        synchronized (this) {
+            if (size > 0 && id <= entries[(start + size - 1) % entries.length].id()) {
+                return;
+            }
+            add(new Entry(id, destination, json));
+        }
+        dispatcher.execute(this::deliver);
+    }
+
+    // Startup with the JDBC bus: everything after coveredAfter is about to be appended from the table
+    public synchronized void resetCoverage(long coveredAfter) {
+        if (size == 0) {
+            this.coveredAfter = coveredAfter;
+        }
+    }
+
+    private void add(Entry entry) {
+        if (size == entries.length) {
+            coveredAfter = entries[start].id();
+            start = (start + 1) % entries.length;
+            size--;
+        }
+        entries[(start + size) % entries.length] = entry;
+        size++;
+    }
+
+    /**
+     * Opens a stream for the current user. With a Last-Event-ID the missed
+     * events are replayed after a "ready" event, or a "resync" event is sent
+     * when some of them have already left the buffer; without one the stream
+     * starts at now.
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Long userId = getCurrentUserId();
+        Long resumeAfter = null;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                resumeAfter = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Last-Event-ID must be a number");
+            }
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        Long from = resumeAfter;
+        dispatcher.execute(() -> {
+            boolean resync;
+            List<Entry> replay;
+            synchronized (this) {
+                resync = from != null && from < coveredAfter;
+                subscriber.lastSentId = from != null && !resync ? from : lastId();
+                replay = snapshot();
+            }
+            // Tells the client where it stands and gives it an id to resume from even if nothing changes
+            String marker = resync ? "resync" : "ready";
+            if (!send(subscriber, SseEmitter.event().name(marker).id(String.valueOf(subscriber.lastSentId))
+                    .data("{\"type\":\"" + marker.toUpperCase() + "\"}"))) {
+                return;
+            }
+            for (Entry entry : replay) {
+                if (!sendEntry(subscriber, entry)) {
+                    return;
+                }
+            }
+            subscribers.add(subscriber);
+        });
+        return emitter;
+    }
+
+    private long lastId() {
+        return size > 0 ? entries[(start + size - 1) % entries.length].id() : coveredAfter;
+    }
+
+    private List<Entry> snapshot() {
+        List<Entry> copy = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            copy.add(entries[(start + i) % entries.length]);
+        }
+        return copy;
+    }
+
+    // Runs on the dispatcher: sends each subscriber whatever it hasn't seen yet
+    private void deliver() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<Entry> buffered;
+        synchronized (this) {
+            buffered = snapshot();
+        }
+        for (Subscriber subscriber : subscribers) {
+            for (int i = firstAfter(buffered, subscriber.lastSentId); i < buffered.size(); i++) {
+                if (!sendEntry(subscriber, buffered.get(i))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int firstAfter(List<Entry> buffered, long id) {
+        int low = 0;
+        int high = buffered.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffered.get(mid).id() <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean sendEntry(Subscriber subscriber, Entry entry) {
+        if (entry.id() <= subscriber.lastSentId) {
+            return true;
+        }
+        subscriber.lastSentId = entry.id();
+        Matcher group = GROUP_TOPIC.matcher(entry.destination());
+        if (group.matches() && !groupCache.isMember(Long.parseLong(group.group(1)), subscriber.userId)) {
+            return true;
+        }
+        String data = "{\"destination\":\"" + entry.destination() + "\",\"event\":" + entry.json() + "}";
+        return send(subscriber, SseEmitter.event().id(String.valueOf(entry.id())).name("tasks").data(data));
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the container completes the emitter
+            subscribers.remove(subscriber);
+            return false;
+        }
+    }
+
+    // Keeps proxies from closing idle streams and finds dead clients
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat-ms:20000}")
+    public void heartbeat() {
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                send(subscriber, SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+}
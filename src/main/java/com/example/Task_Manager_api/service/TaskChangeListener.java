@@ -0,0 +1,28 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// Gives every inserted or updated task the next value of the shared change sequence
+@Component
+public class TaskChangeListener {
+
+    // Created by Hibernate for TaskTombstone, which shares it
+    static final String NEXT_SEQ = "SELECT NEXT VALUE FOR task_change_seq";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PrePersist
+    @PreUpdate
+    public void stamp(Task task) {
+        task.setChangeSeq(jdbcTemplate.queryForObject(NEXT_SEQ, Long.class));
+        task.setChangedAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskTombstone;
+import com.example.Task_Manager_api.payload.GroupSummary;
+import com.example.Task_Manager_api.payload.TaskChanges;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.TaskTombstoneRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Incremental sync for GET /api/tasks/changes. Every task write takes the
+ * next value of task_change_seq (TaskChangeListener); deletions, archiving and
+ * tasks moving away from someone leave a tombstone from the same sequence. A
+ * token carries the last position the client has applied, when it was issued
+ * and which groups it covered: tokens older than the tombstone retention or
+ * from before a membership change get a full resync instead.
+ *
+ * Sequence values are taken before their transaction commits, so a lower value
+ * can become visible after a higher one. The token only advances past changes
+ * older than the settle window; newer ones are sent again on the next call.
+ */
+@Service
+public class TaskChangeService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private record Change(long seq, LocalDateTime at, Task task, TaskTombstone tombstone) {
+    }
+
+    private record Token(long seq, long issuedAt, String scope) {
+    }
+
+    @Value("${tasks.changes.settle-ms:2000}")
+    private long settleMs;
+
+    @Value("${tasks.changes.tombstone-retention-days:30}")
+    private int retentionDays;
+
+    @Value("${tasks.changes.batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private GroupCache groupCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Joins the caller's transaction; call before the tasks are deleted
+    public void recordDeleted(List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            tombstoneRepository.recordDeleted(taskIds, LocalDateTime.now());
+        }
+    }
+
+    // The task stays, but whoever could see it through these no longer can
+    public void recordMovedOut(Long taskId, Long userId, Long assignedUserId, Long groupId) {
+        tombstoneRepository.save(new TaskTombstone(taskId, userId, assignedUserId, groupId));
+    }
+
+    // For changes made with bulk statements, which the entity listener doesn't see
+    public void touch(List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            taskRepository.touch(taskIds, LocalDateTime.now());
+        }
+    }
+
+    // Back from the archive: a new position, and earlier tombstones no longer apply
+    public void restored(Long taskId) {
+        tombstoneRepository.deleteByTaskId(taskId);
+        touch(List.of(taskId));
+    }
+
+    public TaskChanges getChanges(Long userId, String since, Integer limit) {
+        int pageSize = limit == null ? MAX_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<Long> groupIds = groupCache.getGroupsForUser(userId).stream().map(GroupSummary::getId).sorted().toList();
+        String scope = Integer.toHexString(groupIds.hashCode());
+        long now = System.currentTimeMillis();
+
+        Token token = since == null || since.isBlank() ? null : decode(since);
+        boolean full = token == null || !token.scope().equals(scope)
+                || token.issuedAt() < now - retentionDays * 86_400_000L;
+        long from = full ? 0 : token.seq();
+
+        // IN () is not valid SQL; no group has id 0
+        List<Long> inGroups = groupIds.isEmpty() ? List.of(0L) : groupIds;
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<Change> changes = new ArrayList<>();
+        for (Task task : taskRepository.findChangedSince(userId, inGroups, from, page)) {
+            changes.add(new Change(task.getChangeSeq(), task.getChangedAt(), task, null));
+        }
+        // A full resync starts from an empty copy, so there is nothing to delete
+        if (!full) {
+            for (TaskTombstone tombstone : tombstoneRepository.findVisibleSince(userId, inGroups, from, page)) {
+                changes.add(new Change(tombstone.getChangeSeq(), tombstone.getDeletedAt(), null, tombstone));
+            }
+        }
+        changes.sort(Comparator.comparingLong(Change::seq));
+
+        LocalDateTime settled = LocalDateTime.now().minusNanos(settleMs * 1_000_000);
+        List<Task> tasks = new ArrayList<>();
+        Set<Long> deleted = new LinkedHashSet<>();
+        long next = from;
+        boolean advancing = true;
+        for (int i = 0; i < Math.min(pageSize, changes.size()); i++) {
+            Change change = changes.get(i);
+            if (change.task() != null) {
+                tasks.add(change.task());
+            } else {
+                deleted.add(change.tombstone().getTaskId());
+            }
+            if (advancing && change.at() != null && !change.at().isAfter(settled)) {
+                next = change.seq();
+            } else {
+                advancing = false;
+            }
+        }
+        // A task that was moved out of one scope and is still visible through another is an update
+        Set<Long> live = new HashSet<>();
+        tasks.forEach(task -> live.add(task.getId()));
+        deleted.removeAll(live);
+
+        boolean hasMore = changes.size() > pageSize && advancing;
+        return new TaskChanges(tasks, new ArrayList<>(deleted), encode(new Token(next, now, scope)), full, hasMore);
+    }
+
+    private static String encode(Token token) {
+        String raw = token.seq() + "|" + token.issuedAt() + "|" + token.scope();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Token decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            return new Token(Long.parseLong(parts[0]), Long.parseLong(parts[1]), parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid change token");
+        }
+    }
+
+    // Tasks from before change tracking get a position once, on first start
+    @EventListener(ApplicationReadyEvent.class)
+    public void sequenceExistingTasks() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            List<Long> ids;
+            do {
+                ids = tx.execute(status -> {
+                    List<Long> batch = taskRepository.findUnsequencedIds(PageRequest.of(0, batchSize));
+                    touch(batch);
+                    return batch;
+                });
+            } while (ids.size() == batchSize);
+        } catch (Exception e) {
+            System.err.println("Failed to assign change positions to existing tasks: " + e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${tasks.changes.purge-cron:0 45 3 * * *}")
+    public void purgeTombstones() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted;
+        do {
+            deleted = tx.execute(status -> {
+                List<Long> seqs = tombstoneRepository.findExpiredSeqs(cutoff, PageRequest.of(0, batchSize));
+                return seqs.isEmpty() ? 0 : tombstoneRepository.deleteBySeqIn(seqs);
+            });
+        } while (deleted == batchSize);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.FlowProjectionState;
+import com.example.Task_Manager_api.model.GroupFlowDay;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.TaskStatusEvent;
+import com.example.Task_Manager_api.payload.FlowPoint;
+import com.example.Task_Manager_api.repository.FlowProjectionStateRepository;
+import com.example.Task_Manager_api.repository.GroupFlowDayRepository;
+import com.example.Task_Manager_api.repository.TaskStatusEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Cumulative flow and burndown per group. Every status transition is appended
+ * to task_status_events in the transaction that makes it; a projector folds
+ * new events into group_flow_days (tasks per status at the end of each day)
+ * a batch at a time, behind a checkpoint row that is locked so only one node
+ * projects at once. A group's rows can be rebuilt from its events at any time.
+ */
+@Service
+public class TaskFlowService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private record GroupDay(Long groupId, LocalDate day) {
+    }
+
+    private static final Comparator<GroupDay> ORDER = Comparator.comparing(GroupDay::groupId)
+            .thenComparing(GroupDay::day);
+
+    @Value("${flow.batch-size:500}")
+    private int batchSize;
+
+    // Events younger than this may still have lower-id siblings in open transactions
+    @Value("${flow.settle-ms:2000}")
+    private long settleMs;
+
+    @Autowired
+    private TaskStatusEventRepository eventRepository;
+
+    @Autowired
+    private GroupFlowDayRepository flowRepository;
+
+    @Autowired
+    private FlowProjectionStateRepository stateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Joins the caller's transaction so the log matches what was committed
+    public void recordTransition(Long taskId, Long groupId, TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return;
+        }
+        eventRepository.save(new TaskStatusEvent(taskId, groupId, from, to));
+    }
+
+    @Scheduled(fixedDelayString = "${flow.projection-interval-ms:5000}")
+    public void project() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        int applied;
+        do {
+            applied = tx.execute(status -> projectBatch());
+        } while (applied == batchSize);
+    }
+
+    private int projectBatch() {
+        FlowProjectionState state = stateRepository.findForUpdate(FlowProjectionState.ID).orElse(null);
+        if (state == null) {
+            return 0; // Not initialized yet
+        }
+        LocalDateTime settled = LocalDateTime.now().minusNanos(settleMs * 1_000_000);
+        List<TaskStatusEvent> events = eventRepository.findByIdGreaterThanOrderByIdAsc(state.getLastEventId(),
+                PageRequest.of(0, batchSize));
+
+        Map<GroupDay, int[]> deltas = new TreeMap<>(ORDER);
+        int applied = 0;
+        for (TaskStatusEvent event : events) {
+            if (event.getRecordedAt().isAfter(settled)) {
+                break;
+            }
+            accumulate(deltas, event);
+            state.setLastEventId(event.getId());
+            applied++;
+        }
+        deltas.forEach(this::apply);
+        state.setUpdatedAt(LocalDateTime.now());
+        return applied;
+    }
+
+    // Replaces a group's rows with a replay of its events up to the checkpoint
+    public void rebuild(Long groupId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.execute(status -> {
+            FlowProjectionState state = stateRepository.findForUpdate(FlowProjectionState.ID)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Flow projection is still initializing"));
+            flowRepository.deleteByGroupId(groupId);
+            flowRepository.flush();
+
+            Map<GroupDay, int[]> deltas = new TreeMap<>(ORDER);
+            long cursor = 0;
+            List<TaskStatusEvent> events;
+            do {
+                events = eventRepository.findGroupEvents(groupId, cursor, state.getLastEventId(),
+                        PageRequest.of(0, batchSize));
+                for (TaskStatusEvent event : events) {
+                    accumulate(deltas, event);
+                    cursor = event.getId();
+                }
+            } while (events.size() == batchSize);
+            deltas.forEach(this::apply);
+            return null;
+        });
+    }
+
+    // First start: create the checkpoint and seed events for tasks that existed before the log did
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            tx.executeWithoutResult(status -> {
+                if (stateRepository.existsById(FlowProjectionState.ID)) {
+                    return;
+                }
+                stateRepository.saveAndFlush(new FlowProjectionState(FlowProjectionState.ID));
+                int seeded = eventRepository.seedLiveTasks() + eventRepository.seedLiveCompletions()
+                        + eventRepository.seedArchivedTasks() + eventRepository.seedArchivedCompletions();
+                if (seeded > 0) {
+                    System.err.println("Seeded " + seeded + " task status events from existing tasks");
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the checkpoint first
+        }
+    }
+
+    private void accumulate(Map<GroupDay, int[]> deltas, TaskStatusEvent event) {
+        if (event.getGroupId() == null) {
+            return;
+        }
+        int[] delta = deltas.computeIfAbsent(new GroupDay(event.getGroupId(), event.getOccurredAt().toLocalDate()),
+                k -> new int[TaskStatus.values().length]);
+        if (event.getFromStatus() != null) {
+            delta[event.getFromStatus().ordinal()]--;
+        }
+        if (event.getToStatus() != null) {
+            delta[event.getToStatus().ordinal()]++;
+        }
+    }
+
+    private void apply(GroupDay key, int[] delta) {
+        int toDo = delta[TaskStatus.TO_DO.ordinal()];
+        int inProgress = delta[TaskStatus.IN_PROGRESS.ordinal()];
+        int completed = delta[TaskStatus.COMPLETED.ordinal()];
+
+        GroupFlowDay row = flowRepository.findByGroupIdAndDay(key.groupId(), key.day())
+                .orElseGet(() -> GroupFlowDay.carriedFrom(
+                        flowRepository.findFirstByGroupIdAndDayLessThanOrderByDayDesc(key.groupId(), key.day())
+                                .orElse(null),
+                        key.groupId(), key.day()));
+        row.add(toDo, inProgress, completed);
+        flowRepository.save(row);
+        flowRepository.addToLaterDays(key.groupId(), key.day(), toDo, inProgress, completed);
+    }
+
+    public List<FlowPoint> getFlow(Long groupId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to.plusDays(1))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Range may span at most " + MAX_RANGE_DAYS + " days");
+        }
+
+        List<GroupFlowDay> rows = flowRepository.findSeries(groupId, from, to);
+        List<FlowPoint> points = new ArrayList<>();
+        int next = 0;
+        GroupFlowDay current = null;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            while (next < rows.size() && !rows.get(next).getDay().isAfter(day)) {
+                current = rows.get(next++);
+            }
+            points.add(current != null
+                    ? new FlowPoint(day, current.getToDo(), current.getInProgress(), current.getCompleted())
+                    : new FlowPoint(day, 0, 0, 0));
+        }
+        return points;
+    }
+}
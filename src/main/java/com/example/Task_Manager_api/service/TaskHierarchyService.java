@@ -0,0 +1,177 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskDependency;
+import com.example.Task_Manager_api.model.TaskTreePath;
+import com.example.Task_Manager_api.payload.TaskProgress;
+import com.example.Task_Manager_api.repository.TaskDependencyRepository;
+import com.example.Task_Manager_api.repository.TaskTreePathRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Subtasks and blocking dependencies, each kept as a closure table so
+ * descendants, transitive blockers and epic progress are single queries.
+ * Subtasks form a tree (task_tree_paths); dependencies form a DAG
+ * (task_dependencies) whose rows count the paths between each pair, so an
+ * edge can be removed without recomputing the closure. Both reject edges that
+ * would close a cycle. Access checks are left to TaskService.
+ */
+@Service
+@Transactional
+public class TaskHierarchyService {
+
+    @Autowired
+    private TaskTreePathRepository treeRepository;
+
+    @Autowired
+    private TaskDependencyRepository dependencyRepository;
+
+    public void setParent(Long childId, Long parentId) {
+        if (childId.equals(parentId) || treeRepository.existsByAncestorIdAndDescendantId(childId, parentId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A task cannot be placed under its own subtask");
+        }
+        detach(childId);
+        ensureNode(parentId);
+        ensureNode(childId);
+        treeRepository.linkSubtree(parentId, childId);
+    }
+
+    // The task keeps its own subtasks and becomes the root of their tree
+    public void clearParent(Long childId) {
+        detach(childId);
+    }
+
+    private void detach(Long taskId) {
+        List<Long> subtree = treeRepository.findSubtreeIds(taskId);
+        if (!subtree.isEmpty()) {
+            treeRepository.unlinkSubtree(subtree);
+        }
+    }
+
+    private void ensureNode(Long taskId) {
+        if (!treeRepository.existsByAncestorIdAndDescendantId(taskId, taskId)) {
+            treeRepository.saveAndFlush(new TaskTreePath(taskId, taskId, 0));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Long getParentId(Long taskId) {
+        return treeRepository.findByDescendantIdAndDepth(taskId, 1).map(TaskTreePath::getAncestorId).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> getSubtasks(Long taskId, boolean all) {
+        return treeRepository.findDescendants(taskId, all ? Integer.MAX_VALUE : 1);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskProgress getProgress(Long taskId) {
+        Object[] live = treeRepository.countLiveDescendants(taskId).get(0);
+        long archived = treeRepository.countArchivedDescendants(taskId);
+        long total = ((Number) live[0]).longValue() + archived;
+        long completed = ((Number) live[1]).longValue() + archived;
+        return new TaskProgress(taskId, total, completed);
+    }
+
+    public void addBlocker(Long taskId, Long blockerId) {
+        if (taskId.equals(blockerId) || dependencyRepository.existsByTaskIdAndBlockerId(blockerId, taskId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "This dependency would create a cycle");
+        }
+        TaskDependency edge = dependencyRepository.findByTaskIdAndBlockerId(taskId, blockerId).orElse(null);
+        if (edge != null && edge.isDirect()) {
+            return;
+        }
+        adjustPaths(taskId, blockerId, 1);
+        dependencyRepository.findByTaskIdAndBlockerId(taskId, blockerId).orElseThrow().setDirect(true);
+    }
+
+    public void removeBlocker(Long taskId, Long blockerId) {
+        TaskDependency edge = dependencyRepository.findByTaskIdAndBlockerId(taskId, blockerId)
+                .filter(TaskDependency::isDirect)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Dependency not found"));
+        edge.setDirect(false);
+        adjustPaths(taskId, blockerId, -1);
+    }
+
+    // Adds (or removes) the paths running through the edge taskId -> blockerId: every task that
+    // depends on taskId now also depends on everything blockerId depends on
+    private void adjustPaths(Long taskId, Long blockerId, int sign) {
+        Map<Long, Long> dependents = new LinkedHashMap<>();
+        dependents.put(taskId, 1L);
+        for (TaskDependency d : dependencyRepository.findByBlockerId(taskId)) {
+            dependents.put(d.getTaskId(), d.getPaths());
+        }
+        Map<Long, Long> blockers = new LinkedHashMap<>();
+        blockers.put(blockerId, 1L);
+        for (TaskDependency d : dependencyRepository.findByTaskId(blockerId)) {
+            blockers.put(d.getBlockerId(), d.getPaths());
+        }
+
+        Map<List<Long>, TaskDependency> existing = new HashMap<>();
+        for (TaskDependency d : dependencyRepository.findByTaskIdInAndBlockerIdIn(dependents.keySet(),
+                blockers.keySet())) {
+            existing.put(List.of(d.getTaskId(), d.getBlockerId()), d);
+        }
+
+        List<TaskDependency> changed = new ArrayList<>();
+        List<TaskDependency> unreachable = new ArrayList<>();
+        dependents.forEach((dependent, inPaths) -> blockers.forEach((blocker, outPaths) -> {
+            TaskDependency row = existing.get(List.of(dependent, blocker));
+            if (row == null) {
+                row = new TaskDependency(dependent, blocker);
+            }
+            row.setPaths(row.getPaths() + sign * inPaths * outPaths);
+            if (row.getPaths() <= 0 && !row.isDirect()) {
+                if (row.getId() != null) {
+                    unreachable.add(row);
+                }
+            } else {
+                changed.add(row);
+            }
+        }));
+        dependencyRepository.saveAll(changed);
+        dependencyRepository.deleteAll(unreachable);
+        dependencyRepository.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> getBlockers(Long taskId, boolean transitive) {
+        return dependencyRepository.findBlockers(taskId, transitive);
+    }
+
+    public void assertUnblocked(Long taskId) {
+        long open = dependencyRepository.countOpenBlockers(taskId);
+        if (open > 0) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Task is blocked by " + open + " open task" + (open == 1 ? "" : "s"));
+        }
+    }
+
+    // Called before a task row goes away for good: its subtasks become roots and its
+    // dependency edges are removed along with the paths they carried
+    public void removeTask(Long taskId) {
+        detach(taskId);
+        treeRepository.deleteByTaskId(taskId);
+        for (Long blockerId : dependencyRepository.findDirectBlockerIds(taskId)) {
+            removeBlocker(taskId, blockerId);
+        }
+        for (Long dependentId : dependencyRepository.findDirectDependentIds(taskId)) {
+            removeBlocker(dependentId, taskId);
+        }
+        dependencyRepository.deleteByTaskId(taskId);
+    }
+
+    public void removeTasks(List<Long> taskIds) {
+        taskIds.forEach(this::removeTask);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the manual order of tasks within each board column. A column is a
+ * group's tasks in one status, or a user's tasks outside any group in one
+ * status. Moves take a rank between their new neighbours (see
+ * {@link FractionalRank}), so they only touch the moved row. Repeated inserts
+ * into the same gap make ranks longer, so a column whose ranks pass the length
+ * limit is queued and respaced in the background.
+ */
+@Service
+public class TaskRankService {
+
+    public record BoardColumn(Long groupId, Long userId, TaskStatus status) {
+
+        public static BoardColumn of(Task task) {
+            return task.getGroup() != null && task.getGroup().getId() != null
+                    ? new BoardColumn(task.getGroup().getId(), null, task.getStatus())
+                    : new BoardColumn(null, task.getUser().getId(), task.getStatus());
+        }
+
+        String topic() {
+            return groupId != null ? "/topic/groups/" + groupId + "/tasks" : "/topic/tasks";
+        }
+    }
+
+    @Value("${tasks.rank.rebalance-length:24}")
+    private int rebalanceLength;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BroadcastCoalescer broadcastCoalescer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Set<BoardColumn> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    // For tasks entering a column other than by a move: they go to the bottom
+    public String rankAtEnd(BoardColumn column) {
+        String last = column.groupId() != null
+                ? taskRepository.findMaxRankInGroupColumn(column.groupId(), column.status())
+                : taskRepository.findMaxRankInPersonalColumn(column.userId(), column.status());
+        return checked(column, FractionalRank.between(last, null));
+    }
+
+    // Rank for a task placed directly below above (or at the top when above is null)
+    public String rankAfter(Task task, BoardColumn column, Task above) {
+        if (above != null && above.getRank() == null) {
+            // Dropped among unranked tasks: rank the whole column first so the position means something
+            rebalance(column);
+        }
+        String lower = above != null ? above.getRank() : "";
+        String upper = column.groupId() != null
+                ? taskRepository.findNextRankInGroupColumn(column.groupId(), column.status(), lower, task.getId())
+                : taskRepository.findNextRankInPersonalColumn(column.userId(), column.status(), lower, task.getId());
+        return checked(column, FractionalRank.between(above != null ? lower : null, upper));
+    }
+
+    private String checked(BoardColumn column, String rank) {
+        if (rank.length() > rebalanceLength) {
+            AfterCommit.run(() -> pendingRebalance.add(column));
+        }
+        return rank;
+    }
+
+    // Respaces a column's ranks in its current order; joins the caller's transaction
+    public void rebalance(BoardColumn column) {
+        List<Task> tasks = column.groupId() != null
+                ? taskRepository.findGroupColumn(column.groupId(), column.status())
+                : taskRepository.findPersonalColumn(column.userId(), column.status());
+        List<String> ranks = FractionalRank.spread(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setRank(ranks.get(i));
+            broadcastCoalescer.taskChanged(column.topic(), tasks.get(i).getId());
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.rank.rebalance-interval-ms:30000}")
+    public void rebalancePending() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (BoardColumn column : new ArrayList<>(pendingRebalance)) {
+            pendingRebalance.remove(column);
+            try {
+                tx.executeWithoutResult(status -> rebalance(column));
+            } catch (Exception e) {
+                System.err.println("Failed to rebalance board column " + column + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.example.Task_Manager_api.service;
 
 import com.example.Task_Manager_api.model.Task;
 import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
 import com.example.Task_Manager_api.repository.TaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -19,27 +22,44 @@ public class TaskReminderService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private EmailDigestService emailDigestService;
+
     /**
      * Runs every hour to check for tasks due tomorrow.
      * 0 0 * * * * = Every hour at minute 0
      * For testing, you could use "0 * * * * *" (every minute)
      */
     @Scheduled(cron = "0 0 * * * *")
+    @Transactional(readOnly = true)
     public void sendDueDateReminders() {
         LocalDate tomorrow = LocalDate.now().plusDays(1);
         List<Task> upcomingTasks = taskRepository.findByDueDateAndStatusNot(tomorrow, TaskStatus.COMPLETED);
+        List<NotificationService.Draft> drafts = new ArrayList<>();
+        List<NotificationService.Draft> digestDrafts = new ArrayList<>();
+        List<EmailService.Reminder> emails = new ArrayList<>();
 
         for (Task task : upcomingTasks) {
-            String recipientEmail = null;
-            if (task.getAssignedUser() != null) {
-                recipientEmail = task.getAssignedUser().getEmail();
-            } else if (task.getUser() != null) {
-                recipientEmail = task.getUser().getEmail();
+            User recipient = task.getAssignedUser() != null ? task.getAssignedUser() : task.getUser();
+            if (recipient == null) {
+                continue;
             }
+            Long groupId = task.getGroup() != null ? task.getGroup().getId() : null;
+            drafts.add(NotificationService.Draft.to(recipient, NotificationService.TASK_DUE_SOON,
+                    "'" + task.getTitle() + "' is due tomorrow", task.getId(), groupId));
 
-            if (recipientEmail != null) {
-                emailService.sendDueDateReminderEmail(recipientEmail, task.getTitle(), task.getDueDate());
+            if (EmailDigestService.wantsDigest(recipient)) {
+                digestDrafts.add(NotificationService.Draft.to(recipient, NotificationService.TASK_DUE_SOON,
+                        "'" + task.getTitle() + "' is due on " + task.getDueDate(), task.getId(), groupId));
+            } else if (recipient.getEmail() != null) {
+                emails.add(new EmailService.Reminder(recipient.getEmail(), task.getTitle(), task.getDueDate()));
             }
         }
+        notificationService.sendOncePerDay(drafts);
+        emailDigestService.queueOncePerDay(digestDrafts);
+        emailService.sendDueDateReminderEmails(emails);
     }
 }
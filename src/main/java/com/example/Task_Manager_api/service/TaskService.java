@@ -1,32 +1,53 @@
 package com.example.Task_Manager_api.service;
 
+import com.example.Task_Manager_api.model.ArchivedTask;
 import com.example.Task_Manager_api.model.Task;
 import com.example.Task_Manager_api.model.TaskStatus;
 import com.example.Task_Manager_api.model.TaskPriority;
 import com.example.Task_Manager_api.model.User;
 import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.payload.CursorPage;
+import com.example.Task_Manager_api.payload.TaskChanges;
+import com.example.Task_Manager_api.payload.TaskMove;
+import com.example.Task_Manager_api.payload.TaskMovedEvent;
+import com.example.Task_Manager_api.payload.TaskProgress;
+import com.example.Task_Manager_api.payload.TaskQuery;
+import com.example.Task_Manager_api.payload.TaskQueryPage;
 import com.example.Task_Manager_api.repository.TaskRepository;
 import com.example.Task_Manager_api.repository.UserRepository;
 import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskSpecifications;
+import com.example.Task_Manager_api.repository.TaskSpecifications.SortField;
 import com.example.Task_Manager_api.service.ActivityLogService;
+import com.example.Task_Manager_api.service.TaskRankService.BoardColumn;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @org.springframework.transaction.annotation.Transactional
 public class TaskService {
 
+    private static final int MAX_QUERY_SIZE = 100;
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -40,11 +61,47 @@ public class TaskService {
     private EmailService emailService;
 
     @Autowired
-    private org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
+    private EmailDigestService emailDigestService;
+
+    @Autowired
+    private BroadcastCoalescer broadcastCoalescer;
 
     @Autowired
     private ActivityLogService activityLogService;
 
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskFlowService taskFlowService;
+
+    @Autowired
+    private GroupCache groupCache;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private ClusterEventBus clusterEventBus;
+
+    @Autowired
+    private TaskTemplateService taskTemplateService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private TaskChangeService taskChangeService;
+
     private User getCurrentUser() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         String username;
@@ -66,6 +123,7 @@ public class TaskService {
             Long groupId = task.getGroup().getId();
             if (groupId != null) {
                 Group group = groupRepository.findById(groupId.longValue())
+                        .filter(g -> !g.isDeleted())
                         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
                 if (!group.getMembers().contains(currentUser)) {
                     throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not a member of this group");
@@ -90,13 +148,15 @@ public class TaskService {
         }
 
         // Apply defaults ONLY for new tasks
-        if (task.getId() == null) {
+        boolean isNew = task.getId() == null;
+        if (isNew) {
             if (task.getStatus() == null) {
                 task.setStatus(TaskStatus.TO_DO);
             }
             if (task.getPriority() == null) {
                 task.setPriority(TaskPriority.MEDIUM);
             }
+            task.setRank(taskRankService.rankAtEnd(BoardColumn.of(task)));
             if (task.getCreatedAt() == null) {
                 task.setCreatedAt(LocalDateTime.now());
             }
@@ -104,19 +164,18 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        if (isNew) {
+            taskStatsService.taskCreated(savedTask);
+            taskFlowService.recordTransition(savedTask.getId(), groupIdOf(savedTask), null, savedTask.getStatus());
+        }
+
+        if (savedTask.getAssignedUser() != null && !savedTask.getAssignedUser().getId().equals(currentUser.getId())) {
+            notifyAssigned(savedTask, savedTask.getAssignedUser(), currentUser);
+        }
 
         // Send email if newly assigned
         if (savedTask.getAssignedUser() != null && savedTask.getGroup() != null) {
-            try {
-                emailService.sendTaskAssignmentEmail(
-                        savedTask.getAssignedUser().getEmail(),
-                        savedTask.getTitle(),
-                        savedTask.getGroup().getName(),
-                        currentUser.getUsername());
-            } catch (Exception e) {
-                // Log error but don't fail task creation
-                System.err.println("Failed to send assignment email: " + e.getMessage());
-            }
+            emailAssigned(savedTask, savedTask.getAssignedUser(), currentUser);
         }
 
         // Broadcast update via WebSocket
@@ -125,16 +184,40 @@ public class TaskService {
         return savedTask;
     }
 
+    private void notifyAssigned(Task task, User assignee, User assigner) {
+        notificationService.send(NotificationService.Draft.to(assignee, NotificationService.TASK_ASSIGNED,
+                assigner.getUsername() + " assigned you '" + task.getTitle() + "'", task.getId(), groupIdOf(task)));
+    }
+
+    // Assignees on digest delivery get a line in their next digest instead
+    private void emailAssigned(Task task, User assignee, User assigner) {
+        if (EmailDigestService.wantsDigest(assignee)) {
+            emailDigestService.queue(NotificationService.Draft.to(assignee, NotificationService.TASK_ASSIGNED,
+                    "'" + task.getTitle() + "' in group '" + task.getGroup().getName() + "', assigned by "
+                            + assigner.getUsername(),
+                    task.getId(), groupIdOf(task)));
+            return;
+        }
+        try {
+            emailService.sendTaskAssignmentEmail(assignee.getEmail(), task.getTitle(), task.getGroup().getName(),
+                    assigner.getUsername());
+        } catch (Exception e) {
+            // Log error but don't fail the task change
+            System.err.println("Failed to send assignment email: " + e.getMessage());
+        }
+    }
+
     private void broadcastTaskUpdate(Task task) {
         // Broadcast to group topic if applicable
         if (task.getGroup() != null) {
-            messagingTemplate.convertAndSend("/topic/groups/" + task.getGroup().getId() + "/tasks", "updated");
+            broadcastCoalescer.taskChanged("/topic/groups/" + task.getGroup().getId() + "/tasks", task.getId());
         }
         // Always broadcast to global tasks topic for general UI refreshes (like
         // Analytics)
-        messagingTemplate.convertAndSend("/topic/tasks", "updated");
+        broadcastCoalescer.taskChanged("/topic/tasks", task.getId());
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         User currentUser = getCurrentUser();
         List<Task> ownedTasks = taskRepository.findByUser(currentUser);
@@ -146,6 +229,7 @@ public class TaskService {
         return ownedTasks.stream().distinct().toList();
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public Task getTaskById(Long id) {
         User currentUser = getCurrentUser();
         Task task = taskRepository.findById(id)
@@ -165,8 +249,20 @@ public class TaskService {
     }
 
     public Task updateTask(Long id, Task partialTask) {
+        // Reopening an archived task brings it back first; the access checks below
+        // still apply and roll the restore back if they fail
+        if (partialTask.getStatus() != null && partialTask.getStatus() != TaskStatus.COMPLETED
+                && !taskRepository.existsById(id) && taskArchiveService.findArchived(id).isPresent()) {
+            taskArchiveService.restore(id);
+        }
+
         Task existingTask = getTaskById(id); // Checks basic access
         User currentUser = getCurrentUser();
+        TaskStatus previousStatus = existingTask.getStatus();
+        Long previousGroupId = groupIdOf(existingTask);
+        Long previousAssigneeId = existingTask.getAssignedUser() != null
+                ? existingTask.getAssignedUser().getId()
+                : null;
 
         boolean isOwner = existingTask.getUser().getId().equals(currentUser.getId());
         boolean isAssigned = existingTask.getAssignedUser() != null
@@ -180,13 +276,7 @@ public class TaskService {
                 existingTask.setDescription(partialTask.getDescription());
             }
             if (partialTask.getStatus() != null) {
-                if (partialTask.getStatus() == TaskStatus.COMPLETED
-                        && existingTask.getStatus() != TaskStatus.COMPLETED) {
-                    existingTask.setCompletedAt(LocalDateTime.now());
-                } else if (partialTask.getStatus() != TaskStatus.COMPLETED) {
-                    existingTask.setCompletedAt(null);
-                }
-                existingTask.setStatus(partialTask.getStatus());
+                changeStatus(existingTask, partialTask.getStatus());
             }
             if (partialTask.getPriority() != null) {
                 existingTask.setPriority(partialTask.getPriority());
@@ -206,17 +296,12 @@ public class TaskService {
                     activityLogService.logActivity("ASSIGNEE_CHANGE",
                             "Assigned '" + existingTask.getTitle() + "' to " + assignee.getUsername(),
                             currentUser, existingTask);
+                    if (!assignee.getId().equals(currentUser.getId())) {
+                        notifyAssigned(existingTask, assignee, currentUser);
+                    }
                     // Send email
                     if (existingTask.getGroup() != null) {
-                        try {
-                            emailService.sendTaskAssignmentEmail(
-                                    assignee.getEmail(),
-                                    existingTask.getTitle(),
-                                    existingTask.getGroup().getName(),
-                                    currentUser.getUsername());
-                        } catch (Exception e) {
-                            System.err.println("Failed to send assignment email: " + e.getMessage());
-                        }
+                        emailAssigned(existingTask, assignee, currentUser);
                     }
                 }
             } else if (partialTask.getAssignedUser() == null && partialTask.getGroup() != null) {
@@ -229,54 +314,201 @@ public class TaskService {
 
             if (partialTask.getGroup() != null && partialTask.getGroup().getId() != null) {
                 Group group = groupRepository.findById(partialTask.getGroup().getId())
+                        .filter(g -> !g.isDeleted())
                         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
                 existingTask.setGroup(group);
             }
         } else if (isAssigned) {
             // Assigned members can only change status
             if (partialTask.getStatus() != null) {
-                if (partialTask.getStatus() == TaskStatus.COMPLETED
-                        && existingTask.getStatus() != TaskStatus.COMPLETED) {
-                    existingTask.setCompletedAt(LocalDateTime.now());
-                } else if (partialTask.getStatus() != TaskStatus.COMPLETED) {
-                    existingTask.setCompletedAt(null);
-                }
-                existingTask.setStatus(partialTask.getStatus());
+                changeStatus(existingTask, partialTask.getStatus());
             }
         } else {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not authorized to update this task");
         }
 
+        if (previousStatus != TaskStatus.COMPLETED && existingTask.getStatus() == TaskStatus.COMPLETED) {
+            taskHierarchyService.assertUnblocked(id);
+        }
+        if (previousStatus != existingTask.getStatus() || !Objects.equals(previousGroupId,
+                groupIdOf(existingTask))) {
+            // Changed column outside the board: goes to the bottom of the new one
+            existingTask.setRank(taskRankService.rankAtEnd(BoardColumn.of(existingTask)));
+        }
+
+        Long assigneeId = existingTask.getAssignedUser() != null ? existingTask.getAssignedUser().getId() : null;
+        if (!Objects.equals(previousGroupId, groupIdOf(existingTask))
+                || !Objects.equals(previousAssigneeId, assigneeId)) {
+            // Synced copies held through the old group or assignment have to drop it
+            taskChangeService.recordMovedOut(id, existingTask.getUser().getId(), previousAssigneeId, previousGroupId);
+        }
         taskRepository.save(existingTask);
+        Long groupId = groupIdOf(existingTask);
+        if (previousGroupId == null ? groupId != null : !previousGroupId.equals(groupId)) {
+            // Moving groups leaves one flow and enters the other
+            taskFlowService.recordTransition(id, previousGroupId, previousStatus, null);
+            taskFlowService.recordTransition(id, groupId, null, existingTask.getStatus());
+        } else {
+            taskFlowService.recordTransition(id, groupId, previousStatus, existingTask.getStatus());
+        }
+        afterStatusChange(existingTask, previousStatus);
         broadcastTaskUpdate(existingTask);
         return existingTask;
     }
 
+    private static void changeStatus(Task task, TaskStatus status) {
+        if (status == TaskStatus.COMPLETED && task.getStatus() != TaskStatus.COMPLETED) {
+            task.setCompletedAt(LocalDateTime.now());
+        } else if (status != TaskStatus.COMPLETED) {
+            task.setCompletedAt(null);
+        }
+        task.setStatus(status);
+    }
+
+    private void afterStatusChange(Task task, TaskStatus previousStatus) {
+        if (previousStatus != TaskStatus.COMPLETED && task.getStatus() == TaskStatus.COMPLETED) {
+            taskStatsService.taskCompleted(task);
+            // A recurring task's next occurrence appears as soon as this one is done
+            taskTemplateService.occurrenceCompleted(task.getId());
+        } else if (previousStatus == TaskStatus.COMPLETED && task.getStatus() != TaskStatus.COMPLETED) {
+            taskStatsService.taskReopened(task);
+        }
+    }
+
+    // Board drag and drop: status and position change in one transaction and go out as one delta
+    public Task moveTask(Long id, TaskMove move) {
+        Task task = getTaskById(id);
+        User currentUser = getCurrentUser();
+        boolean isOwner = task.getUser().getId().equals(currentUser.getId());
+        boolean isAssigned = task.getAssignedUser() != null
+                && task.getAssignedUser().getId().equals(currentUser.getId());
+        if (!isOwner && !isAssigned) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not authorized to update this task");
+        }
+
+        TaskStatus previousStatus = task.getStatus();
+        if (move.getStatus() != null && move.getStatus() != previousStatus) {
+            changeStatus(task, move.getStatus());
+            if (task.getStatus() == TaskStatus.COMPLETED) {
+                taskHierarchyService.assertUnblocked(id);
+            }
+        }
+        BoardColumn column = BoardColumn.of(task);
+        Task above = null;
+        if (move.getAfterId() != null) {
+            above = getTaskById(move.getAfterId());
+            if (above.getId().equals(id) || !BoardColumn.of(above).equals(column)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "afterId must be another task in the target column");
+            }
+        }
+        task.setRank(taskRankService.rankAfter(task, column, above));
+        taskRepository.save(task);
+
+        Long groupId = groupIdOf(task);
+        taskFlowService.recordTransition(id, groupId, previousStatus, task.getStatus());
+        afterStatusChange(task, previousStatus);
+        TaskMovedEvent event = new TaskMovedEvent(id, groupId, task.getStatus(), task.getRank());
+        AfterCommit.run(() -> {
+            if (groupId != null) {
+                clusterEventBus.publish("/topic/groups/" + groupId + "/tasks", event);
+            }
+            clusterEventBus.publish("/topic/tasks", event);
+        });
+        return task;
+    }
+
+    // Long-lived: no transaction is held while the stream is open
+    @org.springframework.transaction.annotation.Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter streamChanges(String lastEventId) {
+        return taskChangeFeed.subscribe(lastEventId);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public TaskChanges getChanges(String since, Integer limit) {
+        return taskChangeService.getChanges(getCurrentUser().getId(), since, limit);
+    }
+
     public void deleteTask(Long id) {
-        getTaskById(id); // Checks ownership
+        Task task = getTaskById(id); // Checks ownership
+        taskFlowService.recordTransition(id, groupIdOf(task), task.getStatus(), null);
+        taskHierarchyService.removeTask(id);
+        taskTemplateService.occurrenceDeleted(id);
+        taskChangeService.recordDeleted(List.of(id));
         taskRepository.deleteById(id);
     }
 
+    private static Long groupIdOf(Task task) {
+        return task.getGroup() != null ? task.getGroup().getId() : null;
+    }
+
+    // Subtasks and dependencies: the caller needs access to every task involved
+
+    public void setParent(Long id, Long parentId) {
+        getTaskById(id);
+        getTaskById(parentId);
+        taskHierarchyService.setParent(id, parentId);
+    }
+
+    public void clearParent(Long id) {
+        getTaskById(id);
+        taskHierarchyService.clearParent(id);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public List<Task> getSubtasks(Long id, boolean all) {
+        getTaskById(id);
+        return taskHierarchyService.getSubtasks(id, all);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public TaskProgress getProgress(Long id) {
+        getTaskById(id);
+        return taskHierarchyService.getProgress(id);
+    }
+
+    public void addBlocker(Long id, Long blockerId) {
+        getTaskById(id);
+        getTaskById(blockerId);
+        taskHierarchyService.addBlocker(id, blockerId);
+    }
+
+    public void removeBlocker(Long id, Long blockerId) {
+        getTaskById(id);
+        taskHierarchyService.removeBlocker(id, blockerId);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public List<Task> getBlockers(Long id, boolean transitive) {
+        getTaskById(id);
+        return taskHierarchyService.getBlockers(id, transitive);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTasksByStatus(TaskStatus status) {
         return taskRepository.findByUserAndStatus(getCurrentUser(), status);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTasksSortedByDate() {
         return taskRepository.findByUserOrderByCreatedAtDesc(getCurrentUser());
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTaskCreatedToday() {
         LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1);
         return taskRepository.findByUserAndCreatedAtBetween(getCurrentUser(), startOfDay, endOfDay);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTaskCreatedThisWeek() {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime startOfWeek = now.minusDays(7);
         return taskRepository.findByUserAndCreatedAtBetween(getCurrentUser(), startOfWeek, now);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTasksBetweenDates(String fromDateStr, String toDateStr) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDate fromDate = LocalDate.parse(fromDateStr, formatter);
@@ -288,29 +520,40 @@ public class TaskService {
         return taskRepository.findByUserAndCreatedAtBetween(getCurrentUser(), start, end);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTasksByMonth(int month, int year) {
         LocalDateTime start = LocalDate.of(year, month, 1).atStartOfDay();
         LocalDateTime end = start.plusMonths(1);
         return taskRepository.findByUserAndCreatedAtBetween(getCurrentUser(), start, end);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public Page<Task> getAllTasks(Pageable pageable) {
         return taskRepository.findByUser(getCurrentUser(), pageable);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public CursorPage<ArchivedTask> getArchivedTasks(Long cursor, int size) {
+        return taskArchiveService.getArchivedTasks(getCurrentUser().getId(), cursor, size);
+    }
+
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> searchTasks(String query) {
         return taskRepository.searchTasks(getCurrentUser(), query);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTasksDueThisWeek() {
         LocalDate start = LocalDate.now();
         LocalDate end = start.plusDays(7);
         return taskRepository.findTasksDueBetween(getCurrentUser(), start, end);
     }
 
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public List<Task> getTasksByGroup(Long groupId) {
         User currentUser = getCurrentUser();
         Group group = groupRepository.findById(groupId)
+                .filter(g -> !g.isDeleted())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found"));
 
         if (!group.getMembers().contains(currentUser)) {
@@ -319,4 +562,104 @@ public class TaskService {
 
         return taskRepository.findByGroupId(groupId);
     }
+
+    // One bounded, keyset-paged query for any combination of filters
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public TaskQueryPage queryTasks(TaskQuery query) {
+        User currentUser = getCurrentUser();
+        if (query.getSize() < 1 || query.getSize() > MAX_QUERY_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "size must be between 1 and " + MAX_QUERY_SIZE);
+        }
+        SortField sortField = SortField.of(query.getSort())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Cannot sort by " + query.getSort()));
+        boolean ascending;
+        if ("asc".equalsIgnoreCase(query.getDirection())) {
+            ascending = true;
+        } else if ("desc".equalsIgnoreCase(query.getDirection())) {
+            ascending = false;
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "direction must be asc or desc");
+        }
+        if (query.getDueFrom() != null && query.getDueTo() != null && query.getDueTo().isBefore(query.getDueFrom())
+                || query.getCreatedFrom() != null && query.getCreatedTo() != null
+                        && query.getCreatedTo().isBefore(query.getCreatedFrom())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range start must not be after its end");
+        }
+
+        // Within a group members see all of its tasks; otherwise only their own and assigned ones
+        Specification<Task> spec;
+        if (query.getGroupId() != null) {
+            if (groupCache.getSummary(query.getGroupId()) == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found");
+            }
+            if (!groupCache.isMember(query.getGroupId(), currentUser.getId())) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Access denied to this group's tasks");
+            }
+            spec = TaskSpecifications.inGroup(query.getGroupId());
+        } else {
+            spec = TaskSpecifications.ownedOrAssigned(currentUser.getId());
+        }
+        if (query.getScope() == TaskQuery.Scope.OWNED) {
+            spec = spec.and(TaskSpecifications.ownedBy(currentUser.getId()));
+        } else if (query.getScope() == TaskQuery.Scope.ASSIGNED) {
+            spec = spec.and(TaskSpecifications.assignedTo(currentUser.getId()));
+        }
+        if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+            spec = spec.and(TaskSpecifications.statusIn(query.getStatus()));
+        }
+        if (query.getPriority() != null && !query.getPriority().isEmpty()) {
+            spec = spec.and(TaskSpecifications.priorityIn(query.getPriority()));
+        }
+        if (query.getDueFrom() != null || query.getDueTo() != null) {
+            spec = spec.and(TaskSpecifications.dueBetween(query.getDueFrom(), query.getDueTo()));
+        }
+        if (query.getCreatedFrom() != null || query.getCreatedTo() != null) {
+            spec = spec.and(TaskSpecifications.createdBetween(query.getCreatedFrom(), query.getCreatedTo()));
+        }
+        if (query.getAssigneeId() != null) {
+            spec = spec.and(TaskSpecifications.assignedTo(query.getAssigneeId()));
+        }
+        if (query.getText() != null && !query.getText().isBlank()) {
+            spec = spec.and(TaskSpecifications.textContains(query.getText().trim()));
+        }
+        if (query.getCursor() != null && !query.getCursor().isBlank()) {
+            spec = spec.and(decodeCursor(query.getCursor(), sortField, ascending));
+        }
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortField.getAttribute()).and(Sort.by(direction, "id"));
+        int size = query.getSize();
+        List<Task> rows = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+
+        if (rows.size() <= size) {
+            return new TaskQueryPage(rows, null);
+        }
+        List<Task> items = rows.subList(0, size);
+        return new TaskQueryPage(items, encodeCursor(items.get(size - 1), sortField, ascending));
+    }
+
+    // sort|direction|id[|value]; the value is left off when the last row's sort key is null
+    private static String encodeCursor(Task last, SortField sortField, boolean ascending) {
+        Object value = sortField.valueOf(last);
+        String raw = sortField.getAttribute() + "|" + (ascending ? "asc" : "desc") + "|" + last.getId()
+                + (value != null ? "|" + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Specification<Task> decodeCursor(String cursor, SortField sortField, boolean ascending) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\|", 4);
+            if (parts.length < 3 || !parts[0].equals(sortField.getAttribute())
+                    || !parts[1].equals(ascending ? "asc" : "desc")) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor does not match the requested sort");
+            }
+            Object value = parts.length == 4 ? sortField.parse(parts[3]) : null;
+            return TaskSpecifications.after(sortField, ascending, value, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
 }
@@ -0,0 +1,384 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskDailyStat;
+import com.example.Task_Manager_api.payload.StatsPoint;
+import com.example.Task_Manager_api.payload.TaskFacts;
+import com.example.Task_Manager_api.repository.ArchivedTaskRepository;
+import com.example.Task_Manager_api.repository.TaskDailyStatRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Daily created/completed/reopened/overdue counts and lead time per user and
+ * per group, so throughput charts read one row per day instead of every task.
+ * Task writes add to an in-memory delta once they commit and the deltas are
+ * applied as in-place increments every few seconds; a nightly backfill
+ * recomputes the previous day from the task and archive tables (and fills
+ * history on first start), which also repairs anything lost in a crash.
+ */
+@Service
+public class TaskStatsService implements DisposableBean {
+
+    // A year of daily rows is the most a single series request reads
+    private static final int MAX_RANGE_DAYS = 366;
+
+    public enum Granularity {
+        DAY,
+        WEEK,
+        MONTH
+    }
+
+    private record Key(TaskDailyStat.Scope scope, Long scopeId, LocalDate day) {
+    }
+
+    private static class Counts {
+        int created;
+        int completed;
+        int reopened;
+        int overdue;
+        long leadTimeSeconds;
+        int leadTimeSamples;
+
+        void add(Counts other) {
+            created += other.created;
+            completed += other.completed;
+            reopened += other.reopened;
+            leadTimeSeconds += other.leadTimeSeconds;
+            leadTimeSamples += other.leadTimeSamples;
+        }
+    }
+
+    @Value("${stats.backfill-days:365}")
+    private int backfillDays;
+
+    @Value("${stats.backfill-batch-size:1000}")
+    private int batchSize;
+
+    @Autowired
+    private TaskDailyStatRepository statRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentHashMap<Key, Counts> pending = new ConcurrentHashMap<>();
+
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "task-stats-backfill");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public void taskCreated(Task task) {
+        LocalDate day = (task.getCreatedAt() != null ? task.getCreatedAt() : LocalDateTime.now()).toLocalDate();
+        record(task, day, c -> c.created++);
+    }
+
+    public void taskCompleted(Task task) {
+        LocalDateTime completedAt = task.getCompletedAt() != null ? task.getCompletedAt() : LocalDateTime.now();
+        long leadTime = task.getCreatedAt() != null
+                ? Math.max(0, Duration.between(task.getCreatedAt(), completedAt).getSeconds())
+                : -1;
+        record(task, completedAt.toLocalDate(), c -> {
+            c.completed++;
+            if (leadTime >= 0) {
+                c.leadTimeSeconds += leadTime;
+                c.leadTimeSamples++;
+            }
+        });
+    }
+
+    public void taskReopened(Task task) {
+        record(task, LocalDate.now(), c -> c.reopened++);
+    }
+
+    private void record(Task task, LocalDate day, Consumer<Counts> change) {
+        Long ownerId = task.getUser() != null ? task.getUser().getId() : null;
+        Long assigneeId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+        Long groupId = task.getGroup() != null ? task.getGroup().getId() : null;
+
+        AfterCommit.run(() -> {
+            List<Key> keys = new ArrayList<>();
+            if (ownerId != null) {
+                keys.add(new Key(TaskDailyStat.Scope.USER, ownerId, day));
+            }
+            if (assigneeId != null && !assigneeId.equals(ownerId)) {
+                keys.add(new Key(TaskDailyStat.Scope.USER, assigneeId, day));
+            }
+            if (groupId != null) {
+                keys.add(new Key(TaskDailyStat.Scope.GROUP, groupId, day));
+            }
+            for (Key key : keys) {
+                pending.compute(key, (k, counts) -> {
+                    Counts c = counts != null ? counts : new Counts();
+                    change.accept(c);
+                    return c;
+                });
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${stats.flush-interval-ms:5000}")
+    public void flush() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Counts counts = pending.remove(key);
+            if (counts == null) {
+                continue;
+            }
+            try {
+                try {
+                    tx.executeWithoutResult(status -> applyCounts(key, counts, true));
+                } catch (DataIntegrityViolationException e) {
+                    // Another node inserted the row first; it exists now
+                    tx.executeWithoutResult(status -> applyCounts(key, counts, false));
+                }
+            } catch (Exception e) {
+                System.err.println("Failed to write task stats for " + key + ": " + e.getMessage());
+                pending.merge(key, counts, (a, b) -> {
+                    a.add(b);
+                    return a;
+                });
+            }
+        }
+    }
+
+    private void applyCounts(Key key, Counts c, boolean insertIfMissing) {
+        int updated = statRepository.addCounts(key.scope(), key.scopeId(), key.day(), c.created, c.completed,
+                c.reopened, c.leadTimeSeconds, c.leadTimeSamples);
+        if (updated == 0 && insertIfMissing) {
+            TaskDailyStat stat = new TaskDailyStat(key.scope(), key.scopeId(), key.day());
+            stat.setCreated(c.created);
+            stat.setCompleted(c.completed);
+            stat.setReopened(c.reopened);
+            stat.setLeadTimeSeconds(c.leadTimeSeconds);
+            stat.setLeadTimeSamples(c.leadTimeSamples);
+            statRepository.saveAndFlush(stat);
+        }
+    }
+
+    // Fills history on a fresh database; later days are covered by the nightly run
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnFirstStart() {
+        if (backfillDays <= 0 || statRepository.count() > 0) {
+            return;
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        backfillExecutor.submit(() -> {
+            try {
+                backfill(yesterday.minusDays(backfillDays - 1), yesterday);
+            } catch (Exception e) {
+                System.err.println("Task stats backfill failed: " + e.getMessage());
+            }
+        });
+    }
+
+    @Scheduled(cron = "${stats.backfill-cron:0 45 2 * * *}")
+    public void backfillYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        backfill(yesterday, yesterday);
+    }
+
+    /**
+     * Recomputes created, completed, lead time and overdue for each day in
+     * [from, to] from the task tables. Reopen counts are kept, as nothing
+     * records them besides this table. Each day is replaced in its own
+     * transaction.
+     */
+    public void backfill(LocalDate from, LocalDate to) {
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Map<LocalDate, Map<Key, Counts>> byDay = new HashMap<>();
+
+        long cursor = 0;
+        List<TaskFacts> batch;
+        do {
+            batch = taskRepository.findStatFacts(cursor, start, end, to, PageRequest.of(0, batchSize));
+            for (TaskFacts facts : batch) {
+                accumulate(byDay, facts, from, to);
+                cursor = facts.getId();
+            }
+        } while (batch.size() == batchSize);
+
+        cursor = 0;
+        do {
+            batch = archivedTaskRepository.findStatFacts(cursor, start, end, to, PageRequest.of(0, batchSize));
+            for (TaskFacts facts : batch) {
+                accumulate(byDay, facts, from, to);
+                cursor = facts.getId();
+            }
+        } while (batch.size() == batchSize);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Map<Key, Counts> rows = byDay.getOrDefault(day, Map.of());
+            LocalDate current = day;
+            tx.executeWithoutResult(status -> {
+                statRepository.clearDerived(current);
+                rows.forEach((key, c) -> {
+                    int updated = statRepository.replaceDerived(key.scope(), key.scopeId(), key.day(), c.created,
+                            c.completed, c.overdue, c.leadTimeSeconds, c.leadTimeSamples);
+                    if (updated == 0) {
+                        TaskDailyStat stat = new TaskDailyStat(key.scope(), key.scopeId(), key.day());
+                        stat.setCreated(c.created);
+                        stat.setCompleted(c.completed);
+                        stat.setOverdue(c.overdue);
+                        stat.setLeadTimeSeconds(c.leadTimeSeconds);
+                        stat.setLeadTimeSamples(c.leadTimeSamples);
+                        statRepository.save(stat);
+                    }
+                });
+            });
+        }
+    }
+
+    private void accumulate(Map<LocalDate, Map<Key, Counts>> byDay, TaskFacts facts, LocalDate from, LocalDate to) {
+        List<Key> scopes = new ArrayList<>();
+        scopes.add(new Key(TaskDailyStat.Scope.USER, facts.getUserId(), null));
+        if (facts.getAssignedUserId() != null && !facts.getAssignedUserId().equals(facts.getUserId())) {
+            scopes.add(new Key(TaskDailyStat.Scope.USER, facts.getAssignedUserId(), null));
+        }
+        if (facts.getGroupId() != null) {
+            scopes.add(new Key(TaskDailyStat.Scope.GROUP, facts.getGroupId(), null));
+        }
+
+        LocalDate createdDay = facts.getCreatedAt() != null ? facts.getCreatedAt().toLocalDate() : null;
+        LocalDate completedDay = facts.getCompletedAt() != null ? facts.getCompletedAt().toLocalDate() : null;
+
+        if (createdDay != null && inRange(createdDay, from, to)) {
+            forEachScope(byDay, scopes, createdDay, c -> c.created++);
+        }
+        if (completedDay != null && inRange(completedDay, from, to)) {
+            forEachScope(byDay, scopes, completedDay, c -> {
+                c.completed++;
+                if (facts.getCreatedAt() != null) {
+                    c.leadTimeSeconds += Math.max(0,
+                            Duration.between(facts.getCreatedAt(), facts.getCompletedAt()).getSeconds());
+                    c.leadTimeSamples++;
+                }
+            });
+        }
+        // Overdue at the end of each day after the due date until the day before completion
+        if (facts.getDueDate() != null) {
+            LocalDate first = max(from, facts.getDueDate().plusDays(1));
+            if (createdDay != null) {
+                first = max(first, createdDay);
+            }
+            LocalDate last = completedDay != null ? min(to, completedDay.minusDays(1)) : to;
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                forEachScope(byDay, scopes, day, c -> c.overdue++);
+            }
+        }
+    }
+
+    private void forEachScope(Map<LocalDate, Map<Key, Counts>> byDay, List<Key> scopes, LocalDate day,
+            Consumer<Counts> change) {
+        Map<Key, Counts> rows = byDay.computeIfAbsent(day, d -> new HashMap<>());
+        for (Key scope : scopes) {
+            change.accept(rows.computeIfAbsent(new Key(scope.scope(), scope.scopeId(), day), k -> new Counts()));
+        }
+    }
+
+    public List<StatsPoint> getSeries(TaskDailyStat.Scope scope, Long scopeId, LocalDate from, LocalDate to,
+            Granularity granularity) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to.plusDays(1))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Range may span at most " + MAX_RANGE_DAYS + " days");
+        }
+
+        Map<LocalDate, StatsPoint> points = new LinkedHashMap<>();
+        Map<LocalDate, long[]> leadTimes = new HashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            points.computeIfAbsent(periodStart(day, granularity), StatsPoint::new);
+        }
+        for (TaskDailyStat stat : statRepository.findByScopeAndScopeIdAndDayBetweenOrderByDayAsc(scope, scopeId,
+                from, to)) {
+            LocalDate period = periodStart(stat.getDay(), granularity);
+            StatsPoint point = points.get(period);
+            point.setCreated(point.getCreated() + stat.getCreated());
+            point.setCompleted(point.getCompleted() + stat.getCompleted());
+            point.setReopened(point.getReopened() + stat.getReopened());
+            // Rows come in day order, so the last one in the bucket wins
+            point.setOverdue(stat.getOverdue());
+            long[] lead = leadTimes.computeIfAbsent(period, p -> new long[2]);
+            lead[0] += stat.getLeadTimeSeconds();
+            lead[1] += stat.getLeadTimeSamples();
+        }
+        leadTimes.forEach((period, lead) -> {
+            if (lead[1] > 0) {
+                points.get(period).setAvgLeadTimeHours(lead[0] / 3600.0 / lead[1]);
+            }
+        });
+        return new ArrayList<>(points.values());
+    }
+
+    private static LocalDate periodStart(LocalDate day, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static boolean inRange(LocalDate day, LocalDate from, LocalDate to) {
+        return !day.isBefore(from) && !day.isAfter(to);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    @Override
+    public void destroy() {
+        backfillExecutor.shutdownNow();
+        try {
+            flush();
+        } catch (Exception e) {
+            System.err.println("Failed to flush task stats on shutdown: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskPriority;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.TaskTemplate;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.TaskTemplateRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Recurring tasks. A template stores the rule and only its current
+ * occurrence exists as a task; the next one is created when that occurrence
+ * is completed (from TaskService), or by the scheduler for templates that have
+ * no live occurrence once the next due date is within the lead time (new
+ * templates starting later, or after the current occurrence was deleted).
+ * Occurrences whose due date has already passed are skipped, not backfilled.
+ */
+@Service
+public class TaskTemplateService {
+
+    @Value("${templates.lead-days:7}")
+    private int leadDays;
+
+    @Value("${templates.batch-size:100}")
+    private int batchSize;
+
+    @Autowired
+    private TaskTemplateRepository templateRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupCache groupCache;
+
+    @Autowired
+    private ActivityLogService activityLogService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskFlowService taskFlowService;
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private BroadcastCoalescer broadcastCoalescer;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Transactional
+    public TaskTemplate createTemplate(TaskTemplate template) {
+        User currentUser = groupService.getCurrentUser();
+        template.setUserId(currentUser.getId());
+
+        if (template.getGroupId() != null) {
+            if (groupCache.getSummary(template.getGroupId()) == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Group not found");
+            }
+            if (!groupCache.isMember(template.getGroupId(), currentUser.getId())) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "You are not a member of this group");
+            }
+            if (template.getAssignedUserId() != null
+                    && !groupCache.isMember(template.getGroupId(), template.getAssignedUserId())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Assigned user is not a member of the selected group");
+            }
+        } else if (template.getAssignedUserId() != null && !template.getAssignedUserId().equals(currentUser.getId())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Only group templates can be assigned to others");
+        }
+
+        RecurrenceRule rule = parse(template.getRrule());
+        LocalDate first = rule.first(template.getStartDate());
+        if (first == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The recurrence rule has no occurrences");
+        }
+        if (template.getPriority() == null) {
+            template.setPriority(TaskPriority.MEDIUM);
+        }
+        template.setNextDueDate(first);
+        template.setCreatedAt(LocalDateTime.now());
+        templateRepository.save(template);
+
+        advance(template, rule, LocalDate.now().plusDays(leadDays));
+        return template;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskTemplate> getMyTemplates() {
+        return templateRepository.findByUserIdOrderByIdAsc(groupService.getCurrentUser().getId());
+    }
+
+    // Stops the recurrence; the current occurrence stays as an ordinary task
+    @Transactional
+    public void deleteTemplate(Long id) {
+        TaskTemplate template = templateRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Template not found"));
+        if (!template.getUserId().equals(groupService.getCurrentUser().getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the template's owner can delete it");
+        }
+        templateRepository.delete(template);
+    }
+
+    // Called by TaskService in the transaction that completes a task
+    public void occurrenceCompleted(Long taskId) {
+        templateRepository.findByCurrentTaskId(taskId).ifPresent(template -> {
+            template.setCurrentTaskId(null);
+            // The next occurrence is created now, however far off it is
+            advance(template, parse(template.getRrule()), LocalDate.MAX);
+        });
+    }
+
+    // Called by TaskService before a task is deleted; the scheduler creates the next occurrence when due
+    public void occurrenceDeleted(Long taskId) {
+        templateRepository.findByCurrentTaskId(taskId).ifPresent(template -> template.setCurrentTaskId(null));
+    }
+
+    @Scheduled(fixedDelayString = "${templates.interval-ms:60000}")
+    public void materializeDue() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        LocalDate horizon = LocalDate.now().plusDays(leadDays);
+        long cursor = 0;
+        List<Long> ids;
+        do {
+            ids = templateRepository.findDueIds(horizon, cursor, PageRequest.of(0, batchSize));
+            for (Long id : ids) {
+                try {
+                    tx.executeWithoutResult(status -> templateRepository.findForUpdate(id)
+                            // Re-checked under the lock: another node may have just handled it
+                            .filter(t -> t.isActive() && t.getCurrentTaskId() == null && t.getNextDueDate() != null)
+                            .ifPresent(t -> advance(t, parse(t.getRrule()), horizon)));
+                } catch (Exception e) {
+                    System.err.println("Failed to create occurrence for task template " + id + ": " + e.getMessage());
+                }
+                cursor = id;
+            }
+        } while (ids.size() == batchSize);
+    }
+
+    // Skips past occurrences, then creates the next one if it falls on or before the horizon
+    private void advance(TaskTemplate template, RecurrenceRule rule, LocalDate horizon) {
+        LocalDate today = LocalDate.now();
+        LocalDate due = template.getNextDueDate();
+        while (due != null && due.isBefore(today)) {
+            due = rule.next(template.getStartDate(), due);
+        }
+        template.setNextDueDate(due);
+        if (due == null) {
+            template.setActive(false);
+        } else if (!due.isAfter(horizon)) {
+            materialize(template, rule);
+        }
+    }
+
+    private void materialize(TaskTemplate template, RecurrenceRule rule) {
+        Group group = null;
+        if (template.getGroupId() != null) {
+            group = groupRepository.findById(template.getGroupId()).filter(g -> !g.isDeleted()).orElse(null);
+            // The same checks as createTemplate: the template stops once its owner or assignee leaves the group
+            if (group == null || !groupCache.isMember(group.getId(), template.getUserId())
+                    || (template.getAssignedUserId() != null
+                            && !groupCache.isMember(group.getId(), template.getAssignedUserId()))) {
+                template.setActive(false);
+                return;
+            }
+        }
+        User owner = userRepository.getReferenceById(template.getUserId());
+
+        Task task = new Task();
+        task.setTitle(template.getTitle());
+        task.setDescription(template.getDescription());
+        task.setPriority(template.getPriority());
+        task.setStatus(TaskStatus.TO_DO);
+        task.setDueDate(template.getNextDueDate());
+        task.setUser(owner);
+        task.setGroup(group);
+        if (template.getAssignedUserId() != null) {
+            task.setAssignedUser(userRepository.getReferenceById(template.getAssignedUserId()));
+        }
+        task.setCreatedAt(LocalDateTime.now());
+        task.setRank(taskRankService.rankAtEnd(TaskRankService.BoardColumn.of(task)));
+        taskRepository.save(task);
+
+        activityLogService.logActivity("TASK_CREATED", "Created recurring task: " + task.getTitle(), owner, task);
+        taskStatsService.taskCreated(task);
+        taskFlowService.recordTransition(task.getId(), template.getGroupId(), null, TaskStatus.TO_DO);
+        if (group != null) {
+            broadcastCoalescer.taskChanged("/topic/groups/" + group.getId() + "/tasks", task.getId());
+        }
+        broadcastCoalescer.taskChanged("/topic/tasks", task.getId());
+
+        template.setCurrentTaskId(task.getId());
+        template.setOccurrences(template.getOccurrences() + 1);
+        boolean exhausted = rule.getCount() != null && template.getOccurrences() >= rule.getCount();
+        template.setNextDueDate(exhausted ? null : rule.next(template.getStartDate(), template.getNextDueDate()));
+        if (template.getNextDueDate() == null) {
+            template.setActive(false);
+        }
+    }
+
+    private static RecurrenceRule parse(String rrule) {
+        try {
+            return RecurrenceRule.parse(rrule);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
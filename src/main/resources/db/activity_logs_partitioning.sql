@@ -0,0 +1,52 @@
+-- One-off migration: range-partition activity_logs by month of expires_at (MariaDB).
+-- ActivityLogPartitionManager keeps adding months ahead of time and drops expired ones,
+-- so run this once against an existing database while the application is stopped.
+--
+-- MariaDB does not allow foreign keys on partitioned tables, and every unique key must
+-- include the partitioning column, hence the FK drop and the (id, expires_at) primary key.
+
+-- Match these to the running configuration: the largest activity.retention value
+-- (default-days or any type) and ActivityLogPartitionManager.MONTHS_AHEAD
+SET @retention_days := 365;
+SET @months_ahead := 2;
+
+UPDATE activity_logs SET expires_at = DATE_ADD(timestamp, INTERVAL @retention_days DAY) WHERE expires_at IS NULL;
+
+-- Foreign key names are generated by Hibernate; look them up with
+--   SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS WHERE TABLE_NAME = 'activity_logs';
+-- and drop each one:
+--   ALTER TABLE activity_logs DROP FOREIGN KEY <name>;
+
+ALTER TABLE activity_logs
+    MODIFY expires_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, expires_at);
+
+-- Create every month from the current one up to the same horizon the partition manager
+-- keeps (and past the latest existing expires_at), all in the one PARTITION BY that copies
+-- the table anyway. pmax then starts empty, so the manager's first run has nothing to split
+-- and its later splits of pmax move no rows. Rows that already expired land in the first
+-- partition and are dropped at the first maintenance run after this month ends.
+SET @first := CAST(DATE_FORMAT(CURRENT_DATE, '%Y-%m-01') AS DATE);
+SET @horizon := (SELECT CAST(DATE_FORMAT(DATE_ADD(GREATEST(DATE_ADD(CURRENT_DATE, INTERVAL @retention_days DAY),
+                                                           COALESCE(DATE(MAX(expires_at)), CURRENT_DATE)),
+                                                  INTERVAL @months_ahead MONTH), '%Y-%m-01') AS DATE)
+                 FROM activity_logs);
+SET SESSION group_concat_max_len = 65536;
+
+WITH RECURSIVE months (month_start) AS (
+    SELECT @first
+    UNION ALL
+    SELECT DATE_ADD(month_start, INTERVAL 1 MONTH) FROM months WHERE month_start < @horizon
+)
+SELECT GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'), ' VALUES LESS THAN (''',
+                           DATE_ADD(month_start, INTERVAL 1 MONTH), ''')')
+                    ORDER BY month_start SEPARATOR ', ')
+INTO @partitions
+FROM months;
+
+SET @ddl := CONCAT('ALTER TABLE activity_logs PARTITION BY RANGE COLUMNS(expires_at) (',
+                   @partitions, ', PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,15 @@
+-- One-off migration: lower-case invitation emails and make (group_id, email) unique (MariaDB).
+-- Run it before starting the version that declares uk_invitations_group_email, so that
+-- schema update can add the key without tripping over existing duplicates.
+
+UPDATE invitations SET email = LOWER(TRIM(email));
+
+-- Keep one invitation per group and address: an accepted one if there is one, else the oldest
+DELETE i FROM invitations i
+    JOIN invitations keep ON keep.group_id = i.group_id AND keep.email = i.email AND keep.id <> i.id
+WHERE (keep.status = 'ACCEPTED') > (i.status = 'ACCEPTED')
+   OR ((keep.status = 'ACCEPTED') = (i.status = 'ACCEPTED') AND keep.id < i.id);
+
+ALTER TABLE invitations
+    DROP INDEX IF EXISTS idx_invitations_group_email,
+    ADD CONSTRAINT uk_invitations_group_email UNIQUE (group_id, email);
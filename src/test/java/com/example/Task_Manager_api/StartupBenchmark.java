@@ -0,0 +1,184 @@
+package com.example.Task_Manager_api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Time from launching the JVM to the first answered request (a login through
+ * the controller, service and database), for each startup mode, each booted
+ * in its own JVM against the same embedded H2 file database. Skipped unless
+ * run with -Dbenchmark=true:
+ * <pre>mvn test -Dtest=StartupBenchmark -Dbenchmark=true</pre>
+ * Build with -Pfast-start first to include the AOT mode.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupBenchmark {
+
+    private static final int RUNS = 3;
+    private static final long TIMEOUT_MS = 120_000;
+    private static final String AOT_INITIALIZER =
+            "com.example.Task_Manager_api.TaskManagerApiApplication__ApplicationContextInitializer";
+
+    private final Path workDir = Path.of("target", "startup-benchmark").toAbsolutePath();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        deleteRecursively(workDir);
+        Files.createDirectories(workDir);
+        String classpath = jarredClasspath();
+        Path archive = workDir.resolve("app.jsa");
+
+        // The first boot creates the schema that the fast-start runs validate
+        report("ddl update (default)", classpath, List.of(), List.of());
+        List<String> fastStart = List.of("--spring.profiles.active=fast-start");
+        report("fast-start", classpath, List.of(), fastStart);
+
+        boot("cds-training", classpath, List.of("-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.context.exit=onRefresh"), fastStart, false);
+        assertTrue(Files.exists(archive), "CDS archive was not written");
+        report("fast-start + AppCDS", classpath, List.of("-XX:SharedArchiveFile=" + archive), fastStart);
+
+        if (getClass().getClassLoader().getResource(AOT_INITIALIZER.replace('.', '/') + ".class") != null) {
+            report("fast-start + AppCDS + AOT", classpath,
+                    List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true"), fastStart);
+        } else {
+            System.out.println("AOT mode skipped: no AOT-generated classes (build with -Pfast-start)");
+        }
+    }
+
+    private void report(String mode, String classpath, List<String> jvmArgs, List<String> appArgs)
+            throws Exception {
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            times.add(boot(mode.replaceAll("\\W+", "-") + "-" + i, classpath, jvmArgs, appArgs, true));
+        }
+        times.sort(null);
+        System.out.printf("%-28s median %6d ms   best %6d ms%n", mode, times.get(RUNS / 2), times.get(0));
+    }
+
+    // Milliseconds from process start to the first HTTP response (or to exit when not waiting for one)
+    private long boot(String name, String classpath, List<String> jvmArgs, List<String> appArgs,
+            boolean waitForRequest) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(TaskManagerApiApplication.class.getName());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + workDir.resolve("db")
+                + ";MODE=MariaDB;NON_KEYWORDS=VALUE,TIMESTAMP,USER");
+        command.addAll(appArgs);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(workDir.resolve(name + ".log").toFile()).start();
+        try {
+            if (!waitForRequest) {
+                assertTrue(process.waitFor(TIMEOUT_MS, TimeUnit.MILLISECONDS), name + " did not exit");
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+            while (!firstRequest(port)) {
+                assertTrue(process.isAlive(), name + " exited during startup, see " + name + ".log");
+                assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS),
+                        name + " did not answer in time");
+                Thread.sleep(10);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean firstRequest(int port) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) URI.create("http://localhost:" + port
+                    + "/api/auth/login").toURL().openConnection();
+            connection.setConnectTimeout(200);
+            connection.setReadTimeout((int) TIMEOUT_MS);
+            connection.setInstanceFollowRedirects(false);
+            connection.setRequestMethod("POST");
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write("{\"username\":\"benchmark\",\"password\":\"benchmark\"}".getBytes(StandardCharsets.UTF_8));
+            }
+            connection.getResponseCode(); // Any answer will do; this user doesn't exist
+            connection.disconnect();
+            return true;
+        } catch (IOException e) {
+            return false; // Not listening yet
+        }
+    }
+
+    // CDS skips classes loaded from directories, so target/classes and target/test-classes go into one jar
+    private String jarredClasspath() throws IOException {
+        Path jar = workDir.resolve("app.jar");
+        List<String> entries = new ArrayList<>();
+        Set<String> written = new HashSet<>();
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                Path path = Path.of(entry);
+                if (!Files.isDirectory(path)) {
+                    entries.add(entry);
+                    continue;
+                }
+                try (Stream<Path> files = Files.walk(path)) {
+                    for (Path file : files.filter(p -> !p.equals(path)).toList()) {
+                        // Directory entries too, or component scanning finds nothing in the jar
+                        String name = path.relativize(file).toString().replace(File.separatorChar, '/')
+                                + (Files.isDirectory(file) ? "/" : "");
+                        // Earlier entries win, as on the classpath: test resources over main ones
+                        if (written.add(name)) {
+                            out.putNextEntry(new JarEntry(name));
+                            if (!Files.isDirectory(file)) {
+                                Files.copy(file, out);
+                            }
+                            out.closeEntry();
+                        }
+                    }
+                }
+            }
+        }
+        entries.add(0, jar.toString());
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
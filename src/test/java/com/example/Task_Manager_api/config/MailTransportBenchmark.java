@@ -0,0 +1,90 @@
+package com.example.Task_Manager_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Messages per second against LocalSmtpServer with a simulated round trip:
+ * a connection per message (Boot's JavaMailSenderImpl), pooled connections
+ * with one message per call, and pooled connections with batches as
+ * EmailService sends them. Skipped unless run with -Dbenchmark=true:
+ * <pre>mvn test -Dtest=MailTransportBenchmark -Dbenchmark=true</pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MailTransportBenchmark {
+
+    private static final int MESSAGES = 400;
+    private static final int THREADS = 4;
+    private static final int BATCH = 50;
+    private static final long ROUND_TRIP_MS = 2;
+
+    @Test
+    void compareTransports() throws Exception {
+        try (LocalSmtpServer server = new LocalSmtpServer()) {
+            server.setResponseDelayMs(ROUND_TRIP_MS);
+
+            JavaMailSenderImpl plain = new JavaMailSenderImpl();
+            configure(plain, server);
+            report("connection per message", server, run(plain, 1));
+
+            PooledJavaMailSender pooled = new PooledJavaMailSender(THREADS, 100, 60000, 10000);
+            configure(pooled, server);
+            try {
+                report("pooled, one per call", server, run(pooled, 1));
+                report("pooled, batches of " + BATCH, server, run(pooled, BATCH));
+            } finally {
+                pooled.destroy();
+            }
+        }
+    }
+
+    private static void configure(JavaMailSenderImpl sender, LocalSmtpServer server) {
+        sender.setHost("localhost");
+        sender.setPort(server.getPort());
+        sender.setUsername("mailer");
+        sender.setPassword("secret");
+    }
+
+    // Elapsed nanoseconds to send MESSAGES over THREADS threads, batchSize messages per send call
+    private static long run(JavaMailSenderImpl sender, int batchSize) throws Exception {
+        ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < MESSAGES; i += batchSize) {
+                SimpleMailMessage[] batch = new SimpleMailMessage[Math.min(batchSize, MESSAGES - i)];
+                for (int j = 0; j < batch.length; j++) {
+                    batch[j] = new SimpleMailMessage();
+                    batch[j].setFrom("noreply@example.com");
+                    batch[j].setTo("user-" + (i + j) + "@example.com");
+                    batch[j].setSubject("Benchmark");
+                    batch[j].setText("Hello");
+                }
+                results.add(threads.submit(() -> sender.send(batch)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static void report(String name, LocalSmtpServer server, long elapsedNanos) {
+        assertEquals(MESSAGES, server.getReceived().size());
+        System.out.printf("%-26s %8.1f msg/s  %4d connections%n", name,
+                MESSAGES / (elapsedNanos / 1e9), server.getConnections());
+        server.reset();
+    }
+}
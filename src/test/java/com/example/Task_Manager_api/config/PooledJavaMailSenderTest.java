@@ -0,0 +1,101 @@
+package com.example.Task_Manager_api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledJavaMailSenderTest {
+
+    private LocalSmtpServer server;
+    private PooledJavaMailSender sender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new LocalSmtpServer();
+        sender = new PooledJavaMailSender(2, 3, 60000, 1000);
+        sender.setHost("localhost");
+        sender.setPort(server.getPort());
+        sender.setUsername("mailer");
+        sender.setPassword("secret");
+        sender.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        sender.destroy();
+        server.close();
+    }
+
+    @Test
+    void testConnectionsAreReusedUpToTheMessageLimit() {
+        for (int i = 0; i < 5; i++) {
+            sender.send(message("one-" + i + "@example.com"));
+        }
+        // Three messages on the first connection, then a new one
+        assertEquals(5, server.getReceived().size());
+        assertEquals(2, server.getConnections());
+        assertEquals(2, server.getAuthentications());
+        assertEquals(1, sender.getIdleConnections());
+
+        // A batch continues on the idle connection (one message left), then two fresh ones
+        server.reset();
+        sender.send(messages(7));
+        assertEquals(7, server.getReceived().size());
+        assertEquals(2, server.getConnections());
+    }
+
+    @Test
+    void testRejectedRecipientFailsOnlyItsMessage() {
+        server.setRejectRecipient("batch-1@example.com");
+        SimpleMailMessage[] batch = messages(3);
+        MailSendException e = assertThrows(MailSendException.class, () -> sender.send(batch));
+        assertEquals(1, e.getFailedMessages().size());
+        assertSame(batch[1], e.getFailedMessages().keySet().iterator().next());
+        assertEquals(List.of(List.of("batch-0@example.com"), List.of("batch-2@example.com")),
+                server.getReceived().stream().map(LocalSmtpServer.Received::recipients).toList());
+        assertEquals(1, server.getConnections());
+    }
+
+    @Test
+    void testReconnectsAfterTheServerDropsTheConnection() throws Exception {
+        sender.send(message("before@example.com"));
+        server.dropConnections();
+        sender.send(message("after@example.com"));
+        assertEquals(2, server.getReceived().size());
+        assertEquals(2, server.getConnections());
+
+        // No server at all: every message is reported, nothing is thrown past MailSendException
+        server.close();
+        sender.destroy();
+        sender = new PooledJavaMailSender(1, 3, 60000, 1000);
+        sender.setHost("localhost");
+        sender.setPort(server.getPort());
+        SimpleMailMessage[] batch = messages(2);
+        MailSendException e = assertThrows(MailSendException.class, () -> sender.send(batch));
+        assertEquals(2, e.getFailedMessages().size());
+    }
+
+    private static SimpleMailMessage[] messages(int count) {
+        List<SimpleMailMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(message("batch-" + i + "@example.com"));
+        }
+        return messages.toArray(new SimpleMailMessage[0]);
+    }
+
+    private static SimpleMailMessage message(String to) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("noreply@example.com");
+        message.setTo(to);
+        message.setSubject("Test");
+        message.setText("Hello");
+        return message;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.Task_Manager_api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing_primary");
+        replica = database("routing_replica");
+        beat(replica, LocalDateTime.now());
+
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(5), 0);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.destroy();
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void testReadOnlyTransactionsGoToTheReplica() {
+        assertTrue(routing.isReplicaHealthy(0));
+        assertEquals("routing_replica", readOnly.execute(status -> whichNode()));
+        assertEquals("routing_primary", readWrite.execute(status -> whichNode()));
+        // Outside a transaction nothing is read-only
+        assertEquals("routing_primary", whichNode());
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() {
+        beat(replica, LocalDateTime.now().minusMinutes(1));
+        routing.checkReplicas();
+
+        assertFalse(routing.isReplicaHealthy(0));
+        assertEquals("routing_primary", readOnly.execute(status -> whichNode()));
+
+        beat(replica, LocalDateTime.now());
+        routing.checkReplicas();
+        assertEquals("routing_replica", readOnly.execute(status -> whichNode()));
+    }
+
+    @Test
+    void testCheckWritesPrimaryHeartbeat() {
+        routing.checkReplicas();
+        Timestamp beatAt = new JdbcTemplate(primary).queryForObject(
+                "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+        assertTrue(Duration.between(beatAt.toLocalDateTime(), LocalDateTime.now()).getSeconds() < 5);
+    }
+
+    private String whichNode() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE replication_heartbeat (id BIGINT PRIMARY KEY, beat_at TIMESTAMP NOT NULL)");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(50))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    // Stands in for replication: sets the heartbeat the replica has caught up to
+    private static void beat(DataSource dataSource, LocalDateTime at) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        if (jdbc.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.valueOf(at)) == 0) {
+            jdbc.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", Timestamp.valueOf(at));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.Task_Manager_api.config;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.GroupFlowDay;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.GroupFlowDayRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A whole request against the routed data source. The replica is a second H2
+ * database whose tables are read-only links to the primary's, standing in for
+ * replication: reads on it see the primary's data and any write fails.
+ */
+@SpringBootTest(properties = {
+        "rate-limit.enabled=false",
+        "spring.jpa.open-in-view=false",
+        "datasource.replicas.enabled=true",
+        // No NON_KEYWORDS: the list of URLs is comma separated
+        "datasource.replicas.urls=" + ReplicaRoutingRequestTest.REPLICA_URL,
+        "datasource.replicas.check-interval-ms=0"})
+@AutoConfigureMockMvc
+class ReplicaRoutingRequestTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:task_manager_replica;DB_CLOSE_DELAY=-1;MODE=MariaDB";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupFlowDayRepository flowRepository;
+
+    @Value("${spring.datasource.url}")
+    private String primaryUrl;
+
+    @BeforeEach
+    void linkReplica() {
+        JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(primaryUrl, "sa", ""));
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        List<String> tables = primary.queryForList("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'", String.class);
+        for (String table : tables) {
+            replica.execute("CREATE LINKED TABLE IF NOT EXISTS \"" + table + "\"('org.h2.Driver', '" + primaryUrl
+                    + "', 'sa', '', 'PUBLIC', '" + table + "') READONLY");
+        }
+        routingDataSource.checkReplicas();
+        assertTrue(routingDataSource.isReplicaHealthy(0));
+    }
+
+    @Test
+    void testReadThenWriteInOneRequestWritesToThePrimary() throws Exception {
+        User owner = userRepository.findByUsername("routing-owner").orElseGet(() -> userRepository.save(
+                new User(null, "routing-owner", "x", "routing-owner@example.com", Set.of("ROLE_USER"))));
+        Group group = groupRepository.save(new Group("Routing", owner));
+        // A stale row for the rebuild to delete; the group has no events, so nothing replaces it
+        flowRepository.save(new GroupFlowDay(group.getId(), LocalDate.now()));
+
+        // Checks membership in a read-only transaction (replica), then rewrites the group's rows (primary)
+        mockMvc.perform(post("/api/stats/groups/{groupId}/flow/rebuild", group.getId())
+                        .with(user(owner.getUsername()).roles("USER")))
+                .andExpect(status().isOk());
+
+        assertTrue(flowRepository.findAll().stream().noneMatch(row -> row.getGroupId().equals(group.getId())));
+    }
+
+    @Test
+    void testReplicasRequireOpenInViewOff() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(DataSourceRoutingConfig.class)
+                .withPropertyValues("datasource.replicas.enabled=true")
+                .run(context -> {
+                    assertNotNull(context.getStartupFailure());
+                    Throwable cause = context.getStartupFailure();
+                    while (cause.getCause() != null) {
+                        cause = cause.getCause();
+                    }
+                    assertTrue(cause.getMessage().contains("open-in-view"), cause.getMessage());
+                });
+    }
+}
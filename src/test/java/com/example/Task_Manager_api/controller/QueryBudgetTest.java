@@ -0,0 +1,220 @@
+package com.example.Task_Manager_api.controller;
+
+import com.example.Task_Manager_api.config.QueryAccountingFilter;
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import com.example.Task_Manager_api.service.GroupService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * Statement budgets for every TaskController and GroupController route, read
+ * from the X-Query-* headers of QueryAccountingFilter. The data has several
+ * tasks, assignees and groups, so a per-row lazy load pushes a route over its
+ * budget and shows up as a repeated statement. Budgets are the counts measured
+ * when they were set: lower one when a route gets cheaper, and treat a failure
+ * as a regression to fix rather than a number to raise.
+ */
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final int TASKS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${query-accounting.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    private final List<String> overBudget = new ArrayList<>();
+
+    @Test
+    void testTaskRoutesStayWithinBudget() throws Exception {
+        User owner = account("budget-task-owner");
+        List<User> members = accounts("budget-task-member", TASKS);
+        Group group = group("Budget tasks", owner, members);
+
+        // One task per member, so every row has its own assignee to load
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            String body = "{\"title\":\"Budget task " + i + "\",\"status\":\"TO_DO\",\"dueDate\":\""
+                    + LocalDate.now().plusDays(1) + "\",\"group\":{\"id\":" + group.getId()
+                    + "},\"assignedUser\":{\"id\":" + members.get(i).getId() + "}}";
+            JsonNode created = json(call(owner, 9, post("/api/tasks").contentType(MediaType.APPLICATION_JSON)
+                    .content(body)));
+            taskIds.add(created.get("id").asLong());
+        }
+        Long parent = taskIds.get(0);
+        Long child = taskIds.get(1);
+        Long blocker = taskIds.get(2);
+        String today = LocalDate.now().toString();
+
+        call(owner, 14, put("/api/tasks/{id}/parent/{parentId}", child, parent));
+        call(owner, 13, put("/api/tasks/{id}/parent/{parentId}", taskIds.get(3), parent));
+        call(owner, 15, put("/api/tasks/{id}/blockers/{blockerId}", parent, blocker));
+        call(owner, 15, put("/api/tasks/{id}/blockers/{blockerId}", parent, taskIds.get(4)));
+
+        call(owner, 6, get("/api/tasks"));
+        call(owner, 7, get("/api/tasks/changes"));
+        call(owner, 3, get("/api/tasks/archive"));
+        call(owner, 5, get("/api/tasks/{id}", parent));
+        call(owner, 5, get("/api/tasks/status/{status}", "TO_DO"));
+        call(owner, 5, get("/api/tasks/sorted/createdAt"));
+        call(owner, 5, get("/api/tasks/search").param("query", "Budget"));
+        call(owner, 5, get("/api/tasks/due-this-week"));
+        call(owner, 5, get("/api/tasks/filter/today"));
+        call(owner, 5, get("/api/tasks/filter/this-week"));
+        call(owner, 5, get("/api/tasks/filter/by-date").param("fromDate", today).param("toDate", today));
+        call(owner, 5, get("/api/tasks/filter/by-month").param("month", String.valueOf(LocalDate.now()
+                .getMonthValue())).param("year", String.valueOf(LocalDate.now().getYear())));
+        call(owner, 6, get("/api/tasks/paginated").param("size", String.valueOf(TASKS)));
+        call(owner, 5, get("/api/tasks/group/{groupId}", group.getId()));
+        call(owner, 5, get("/api/tasks/query").param("status", "TO_DO", "IN_PROGRESS")
+                .param("size", String.valueOf(TASKS)));
+        call(owner, 5, get("/api/tasks/query").param("groupId", String.valueOf(group.getId()))
+                .param("sort", "dueDate").param("size", "2"));
+        call(owner, 6, get("/api/tasks/{id}/subtasks", parent));
+        call(owner, 6, get("/api/tasks/{id}/subtasks", parent).param("all", "true"));
+        call(owner, 7, get("/api/tasks/{id}/progress", parent));
+        call(owner, 6, get("/api/tasks/{id}/blockers", parent));
+        call(owner, 6, get("/api/tasks/{id}/blockers", parent).param("transitive", "true"));
+
+        call(owner, 11, put("/api/tasks/{id}", child).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Budget task renamed\",\"status\":\"IN_PROGRESS\"}"));
+        call(owner, 12, patch("/api/tasks/{id}/move", child).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"TO_DO\",\"afterId\":" + taskIds.get(5) + "}"));
+        call(owner, 11, delete("/api/tasks/{id}/blockers/{blockerId}", parent, blocker));
+        call(owner, 7, delete("/api/tasks/{id}/parent", child));
+        call(owner, 14, delete("/api/tasks/{id}", taskIds.get(5)));
+
+        // The event stream stays open, so its count comes from the metric instead of a header; it looks
+        // the caller up with plain JDBC so no EntityManager holds a connection while it is open
+        mockMvc.perform(get("/api/tasks/stream").with(user(owner.getUsername()).roles("USER")));
+        DistributionSummary stream = meterRegistry.find("http.server.requests.queries")
+                .tags("method", "GET", "uri", "/api/tasks/stream").summary();
+        assertNotNull(stream);
+        withinBudget("GET /api/tasks/stream", (int) stream.max(), 0, 0);
+
+        assertTrue(overBudget.isEmpty(), String.join("\n", overBudget));
+    }
+
+    @Test
+    void testGroupRoutesStayWithinBudget() throws Exception {
+        User owner = account("budget-group-owner");
+        List<User> members = accounts("budget-group-member", 4);
+        Group group = group("Budget group", owner, members);
+        // More groups, each with its own members, for the per-user list
+        for (int i = 0; i < 3; i++) {
+            group("Budget group " + i, owner, accounts("budget-group-" + i + "-member", 2));
+        }
+        User member = members.get(0);
+
+        call(owner, 4, post("/api/groups").contentType(MediaType.APPLICATION_JSON).content("\"Budget new\""));
+        call(owner, 5, get("/api/groups/my-groups"));
+        call(owner, 2, get("/api/groups/{id}", group.getId()));
+        call(owner, 4, get("/api/groups/{id}/members", group.getId()));
+        call(owner, 5, post("/api/groups/{id}/invitations/bulk", group.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"emails\":[\"budget-a@example.com\",\"budget-b@example.com\","
+                        + "\"budget-c@example.com\",\"not-an-address\"]}"));
+        call(member, 5, post("/api/groups/{id}/leave", group.getId()));
+        call(owner, 7, delete("/api/groups/{id}", group.getId()));
+        call(owner, 4, get("/api/groups/{id}/deletion", group.getId()));
+
+        assertTrue(overBudget.isEmpty(), String.join("\n", overBudget));
+    }
+
+    // Performs the request as the given user and checks it against its budget; returns the response
+    private MockHttpServletResponse call(User caller, int budget, MockHttpServletRequestBuilder request)
+            throws Exception {
+        MvcResult result = mockMvc.perform(request.with(user(caller.getUsername()).roles("USER"))).andReturn();
+        MockHttpServletResponse response = result.getResponse();
+        String route = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        assertTrue(response.getStatus() < 400, route + " returned " + response.getStatus() + ": "
+                + response.getContentAsString());
+        String count = response.getHeader(QueryAccountingFilter.COUNT_HEADER);
+        assertNotNull(count, route + " has no " + QueryAccountingFilter.COUNT_HEADER + " header");
+        withinBudget(route, Integer.parseInt(count), budget,
+                Integer.parseInt(response.getHeader(QueryAccountingFilter.REPEATED_HEADER)));
+        return response;
+    }
+
+    private void withinBudget(String route, int statements, int budget, int repeated) {
+        if (statements > budget) {
+            overBudget.add(route + ": " + statements + " statements, budget " + budget);
+        }
+        if (repeated >= nPlusOneThreshold) {
+            overBudget.add(route + ": the same statement " + repeated + " times (N+1)");
+        }
+    }
+
+    private JsonNode json(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readTree(response.getContentAsString());
+    }
+
+    private User account(String username) {
+        return userRepository.findByUsername(username).orElseGet(() -> userRepository.save(
+                new User(null, username, "x", username + "@example.com", Set.of("ROLE_USER"))));
+    }
+
+    private List<User> accounts(String prefix, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(account(prefix + "-" + i));
+        }
+        return users;
+    }
+
+    private Group group(String name, User owner, List<User> members) {
+        Group group = groupRepository.save(new Group(name, owner));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Group managed = groupRepository.findById(group.getId()).orElseThrow();
+            members.forEach(member -> groupService.addMember(managed, member));
+        });
+        return group;
+    }
+}
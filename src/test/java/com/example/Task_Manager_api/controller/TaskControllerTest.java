@@ -1,6 +1,8 @@
 package com.example.Task_Manager_api.controller;
 
 import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.security.CustomUserDetailsService;
+import com.example.Task_Manager_api.security.JwtTokenProvider;
 import com.example.Task_Manager_api.service.TaskService;
 import org.junit.jupiter.api.Test;
 import static org.mockito.Mockito.when;
@@ -8,11 +10,14 @@ import static org.mockito.Mockito.when;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import javax.sql.DataSource;
+
 @WebMvcTest(TaskController.class)
 public class TaskControllerTest {
 
@@ -22,7 +27,18 @@ public class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    // Dependencies of the security filters picked up by the MVC slice
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @MockBean
+    private DataSource dataSource;
+
     @Test
+    @WithMockUser
     void testGetTaskById() throws Exception {
         Task mockTask = new Task();
         mockTask.setId(1L);
@@ -0,0 +1,105 @@
+package com.example.Task_Manager_api.controller;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskPriority;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// GET /api/tasks/query through the web layer: parameter binding, cursors across requests, errors
+@SpringBootTest(properties = "rate-limit.enabled=false")
+@AutoConfigureMockMvc
+class TaskQueryControllerTest {
+
+    private static final String OWNER = "query-api-owner";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void testRepeatedParametersAndCursorPaging() throws Exception {
+        User owner = owner();
+        LocalDateTime now = LocalDateTime.now();
+        Task todoHigh = task("To do, high", owner, TaskStatus.TO_DO, TaskPriority.HIGH, now);
+        Task startedHigh = task("Started, high", owner, TaskStatus.IN_PROGRESS, TaskPriority.HIGH,
+                now.plusSeconds(1));
+        Task todoLow = task("To do, low", owner, TaskStatus.TO_DO, TaskPriority.LOW, now.plusSeconds(2));
+        task("Done, high", owner, TaskStatus.COMPLETED, TaskPriority.HIGH, now.plusSeconds(3));
+        task("Started, medium", owner, TaskStatus.IN_PROGRESS, TaskPriority.MEDIUM, now.plusSeconds(4));
+
+        // Two values each for status and priority, two tasks per page, following nextCursor
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/tasks/query")
+                    .param("status", "TO_DO", "IN_PROGRESS")
+                    .param("priority", "HIGH", "LOW")
+                    .param("sort", "createdAt")
+                    .param("direction", "asc")
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request.with(user(OWNER).roles("USER")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> ids.add(item.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of(todoHigh.getId(), startedHigh.getId(), todoLow.getId()), ids);
+        assertEquals(2, pages);
+    }
+
+    @Test
+    void testUnknownSortIsBadRequest() throws Exception {
+        owner();
+        mockMvc.perform(get("/api/tasks/query").param("sort", "description").with(user(OWNER).roles("USER")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private User owner() {
+        return userRepository.findByUsername(OWNER).orElseGet(() -> userRepository.save(
+                new User(null, OWNER, "x", OWNER + "@example.com", Set.of("ROLE_USER"))));
+    }
+
+    private Task task(String title, User owner, TaskStatus status, TaskPriority priority, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(owner);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setCreatedAt(createdAt);
+        return taskRepository.save(task);
+    }
+}
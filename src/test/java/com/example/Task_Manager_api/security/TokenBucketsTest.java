@@ -0,0 +1,57 @@
+package com.example.Task_Manager_api.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final TokenBuckets buckets = new TokenBuckets(
+            new int[] { 3, 1, 1, 1 },
+            new double[] { 1, 1, 1, 1 });
+
+    @Test
+    void testBurstThenRefill() {
+        long now = 10 * SECOND;
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now));
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now));
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now));
+
+        long wait = buckets.tryAcquire("alice", EndpointClass.READ, now);
+        assertEquals(SECOND, wait);
+
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now + wait));
+    }
+
+    @Test
+    void testBudgetsAreIndependentPerUserAndClass() {
+        long now = 10 * SECOND;
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.SEARCH, now));
+        assertTrue(buckets.tryAcquire("alice", EndpointClass.SEARCH, now) > 0);
+
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.WRITE, now));
+        assertEquals(0, buckets.tryAcquire("bob", EndpointClass.SEARCH, now));
+    }
+
+    @Test
+    void testEvictIdleDropsRefilledBuckets() {
+        long now = 10 * SECOND;
+        buckets.tryAcquire("alice", EndpointClass.READ, now);
+        assertEquals(0, buckets.evictIdle(now));
+        assertEquals(1, buckets.evictIdle(now + 2 * SECOND));
+        assertEquals(0, buckets.size());
+    }
+
+    @Test
+    void testNewKeyStartsFullWhenClockIsNegative() {
+        // System.nanoTime() has an arbitrary origin and may be negative
+        long now = -100 * SECOND;
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now));
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now));
+        assertEquals(0, buckets.tryAcquire("alice", EndpointClass.READ, now));
+        assertEquals(SECOND, buckets.tryAcquire("alice", EndpointClass.READ, now));
+        assertEquals(0, buckets.tryAcquire("bob", EndpointClass.SEARCH, now));
+    }
+}
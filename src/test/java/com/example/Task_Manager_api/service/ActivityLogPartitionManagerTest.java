@@ -0,0 +1,43 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.ActivityLog;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.ActivityLogRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ActivityLogPartitionManagerTest {
+
+    @Autowired
+    private ActivityLogPartitionManager partitionManager;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testExpiredActivityIsPurgedWithoutPartitions() {
+        User user = userRepository.save(new User(null, "retention-user", "x", "retention-user@example.com",
+                Set.of("ROLE_USER")));
+        ActivityLog expired = new ActivityLog("COMMENT_ADDED", "Old comment", user, null);
+        expired.setExpiresAt(LocalDateTime.now().minusDays(1));
+        expired = activityLogRepository.save(expired);
+        ActivityLog live = activityLogRepository.save(new ActivityLog("TASK_CREATED", "Created", user, null));
+
+        partitionManager.maintain();
+
+        assertFalse(activityLogRepository.existsById(expired.getId()));
+        assertTrue(activityLogRepository.existsById(live.getId()));
+        assertTrue(live.getExpiresAt().isAfter(LocalDateTime.now().plusDays(364)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.payload.TaskChangeEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadcastCoalescerTest {
+
+    @Mock
+    private ClusterEventBus clusterEventBus;
+
+    @InjectMocks
+    private BroadcastCoalescer coalescer;
+
+    public BroadcastCoalescerTest() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 50L);
+    }
+
+    @Test
+    void testBurstIsMergedIntoOneMessagePerDestination() {
+        for (long id = 1; id <= 200; id++) {
+            coalescer.taskChanged("/topic/tasks", id);
+            coalescer.taskChanged("/topic/groups/1/tasks", id);
+        }
+
+        ArgumentCaptor<TaskChangeEvent> event = ArgumentCaptor.forClass(TaskChangeEvent.class);
+        verify(clusterEventBus, timeout(2000).times(1)).publish(eq("/topic/tasks"), event.capture());
+        verify(clusterEventBus, timeout(2000).times(1)).publish(eq("/topic/groups/1/tasks"),
+                any(TaskChangeEvent.class));
+        assertEquals(200, event.getValue().getTaskIds().size());
+        coalescer.destroy();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CommentServiceTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testTaskUpdateDoesNotOverwriteConcurrentCommentCount() {
+        User owner = userRepository.save(new User(null, "count-owner", "x", "count-owner@example.com",
+                Set.of("ROLE_USER")));
+        Task task = new Task();
+        task.setTitle("Counted");
+        task.setUser(owner);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setCreatedAt(LocalDateTime.now());
+        Long taskId = taskRepository.save(task).getId();
+
+        // Like TaskService.updateTask: load, change, flush on commit; a comment commits in between
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Task loaded = taskRepository.findById(taskId).orElseThrow();
+            CompletableFuture.runAsync(() -> {
+                SecurityContextHolder.getContext()
+                        .setAuthentication(new UsernamePasswordAuthenticationToken("count-owner", null));
+                try {
+                    commentService.addComment(taskId, "While the task was being edited");
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }).join();
+            loaded.setTitle("Counted, renamed");
+        });
+
+        Task saved = taskRepository.findById(taskId).orElseThrow();
+        assertEquals("Counted, renamed", saved.getTitle());
+        assertEquals(1, saved.getCommentCount());
+        assertNotNull(saved.getLastCommentAt());
+    }
+}
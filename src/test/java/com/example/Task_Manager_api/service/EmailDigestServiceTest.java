@@ -0,0 +1,111 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.EmailDelivery;
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+class EmailDigestServiceTest {
+
+    // The implementation type, so the mail health indicator still finds a sender
+    @MockBean
+    private JavaMailSenderImpl mailSender;
+
+    @Autowired
+    private EmailDigestService emailDigestService;
+
+    @Autowired
+    private TaskReminderService taskReminderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void testOneDigestPerRecipientRetriedAfterFailure() {
+        User digestUser = new User(null, "digest-user", "x", "digest-user@example.com", Set.of("ROLE_USER"));
+        digestUser.setEmailDelivery(EmailDelivery.DIGEST);
+        digestUser = userRepository.save(digestUser);
+        User immediateUser = userRepository.save(new User(null, "immediate-user", "x",
+                "immediate-user@example.com", Set.of("ROLE_USER")));
+        dueTomorrow("Digest report", digestUser);
+        dueTomorrow("Digest slides", digestUser);
+        dueTomorrow("Immediate report", immediateUser);
+
+        List<SimpleMailMessage> sent = new CopyOnWriteArrayList<>();
+        Answer<Void> record = invocation -> {
+            for (Object argument : invocation.getArguments()) {
+                sent.add((SimpleMailMessage) argument);
+            }
+            return null;
+        };
+        doAnswer(record).when(mailSender).send(any(SimpleMailMessage[].class));
+        doAnswer(record).when(mailSender).send(any(SimpleMailMessage.class));
+
+        // Hourly runs: the immediate user is emailed every time, the digest only queued once
+        taskReminderService.sendDueDateReminders();
+        taskReminderService.sendDueDateReminders();
+        assertEquals(2, to("immediate-user@example.com", sent).size());
+        assertTrue(to("digest-user@example.com", sent).isEmpty());
+        emailDigestService.queue(NotificationService.Draft.to(digestUser, NotificationService.TASK_ASSIGNED,
+                "'Review' in group 'Team', assigned by someone", null, null));
+
+        // The SMTP server is down for the first run: nothing is lost
+        doAnswer(invocation -> {
+            throw new MailSendException("Connection refused");
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+        emailDigestService.sendDigests();
+        assertTrue(to("digest-user@example.com", sent).isEmpty());
+
+        doAnswer(record).when(mailSender).send(any(SimpleMailMessage[].class));
+        emailDigestService.sendDigests();
+        List<SimpleMailMessage> digests = to("digest-user@example.com", sent);
+        assertEquals(1, digests.size());
+        String text = digests.get(0).getText();
+        assertTrue(text.indexOf("Due soon:") < text.indexOf("Assigned to you:"));
+        assertTrue(text.contains("'Digest report' is due on " + LocalDate.now().plusDays(1)));
+        assertTrue(text.contains("'Digest slides'"));
+        assertTrue(text.contains("'Review' in group 'Team'"));
+        assertEquals("Your Synapse summary: 3 updates", digests.get(0).getSubject());
+
+        // Sent entries still stop the next hourly run from queueing the same reminders
+        taskReminderService.sendDueDateReminders();
+        emailDigestService.sendDigests();
+        assertEquals(1, to("digest-user@example.com", sent).size());
+    }
+
+    private void dueTomorrow(String title, User user) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(user);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setDueDate(LocalDate.now().plusDays(1));
+        taskRepository.save(task);
+    }
+
+    private static List<SimpleMailMessage> to(String address, List<SimpleMailMessage> sent) {
+        return sent.stream().filter(message -> address.equals(message.getTo()[0])).toList();
+    }
+}
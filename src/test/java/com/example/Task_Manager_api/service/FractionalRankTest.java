@@ -0,0 +1,45 @@
+package com.example.Task_Manager_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FractionalRankTest {
+
+    @Test
+    void testRandomInsertsStayOrdered() {
+        Random random = new Random(42);
+        List<String> ranks = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int slot = random.nextInt(ranks.size() + 1);
+            String lower = slot > 0 ? ranks.get(slot - 1) : null;
+            String upper = slot < ranks.size() ? ranks.get(slot) : null;
+            String rank = FractionalRank.between(lower, upper);
+            assertTrue(lower == null || lower.compareTo(rank) < 0, lower + " < " + rank);
+            assertTrue(upper == null || rank.compareTo(upper) < 0, rank + " < " + upper);
+            assertFalse(rank.endsWith("0"));
+            ranks.add(slot, rank);
+        }
+    }
+
+    @Test
+    void testRepeatedTopInsertsAndSpread() {
+        String first = null;
+        for (int i = 0; i < 100; i++) {
+            String rank = FractionalRank.between(null, first);
+            assertTrue(first == null || rank.compareTo(first) < 0);
+            first = rank;
+        }
+
+        List<String> spread = FractionalRank.spread(5000);
+        for (int i = 1; i < spread.size(); i++) {
+            assertTrue(spread.get(i - 1).compareTo(spread.get(i)) < 0);
+        }
+        assertTrue(spread.get(spread.size() - 1).length() <= 4);
+        assertThrows(IllegalArgumentException.class, () -> FractionalRank.between("b", "a"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.GroupSummary;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class GroupCacheTest {
+
+    @Autowired
+    private GroupCache groupCache;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testCachedUntilMembershipChangesThroughGroupService() {
+        User owner = userRepository.save(new User(null, "cache-owner", "x", "cache-owner@example.com",
+                Set.of("ROLE_USER")));
+        User invitee = userRepository.save(new User(null, "cache-invitee", "x", "cache-invitee@example.com",
+                Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Cached group", owner));
+
+        assertEquals(1, groupCache.getSummary(group.getId()).getMemberCount());
+        assertTrue(groupCache.getGroupsForUser(invitee.getId()).isEmpty());
+
+        // Renaming behind the cache's back is not seen: the summary is served from memory
+        group.setName("Renamed");
+        groupRepository.save(group);
+        assertEquals("Cached group", groupCache.getSummary(group.getId()).getName());
+
+        // Evicted when the membership change commits, as in InvitationService.acceptInvitation
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                groupService.addMember(groupRepository.findById(group.getId()).orElseThrow(), invitee));
+
+        List<GroupSummary> inviteeGroups = groupCache.getGroupsForUser(invitee.getId());
+        assertEquals(1, inviteeGroups.size());
+        assertEquals("Renamed", inviteeGroups.get(0).getName());
+        assertEquals(2, inviteeGroups.get(0).getMemberCount());
+        assertEquals("cache-owner", inviteeGroups.get(0).getOwner().getUsername());
+        assertTrue(groupCache.isMember(group.getId(), invitee.getId()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.*;
+import com.example.Task_Manager_api.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "groups.deletion.chunk-size=2")
+class GroupDeletionServiceTest {
+
+    @Autowired
+    private GroupDeletionService groupDeletionService;
+
+    @Autowired
+    private GroupDeletionJobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private InvitationRepository invitationRepository;
+
+    @Test
+    void testPurgesGroupInChunksAndCompletes() {
+        User owner = userRepository.save(new User(null, "purge-owner", "x", "purge-owner@example.com",
+                Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Doomed", owner));
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(TaskStatus.TO_DO);
+            task.setUser(owner);
+            task.setGroup(group);
+            task.setCreatedAt(LocalDateTime.now());
+            task = taskRepository.save(task);
+
+            Comment comment = new Comment();
+            comment.setText("note");
+            comment.setAuthor(owner);
+            comment.setTask(task);
+            commentRepository.save(comment);
+            activityLogRepository.save(new ActivityLog("TASK_CREATED", "Created", owner, task));
+        }
+        for (int i = 0; i < 3; i++) {
+            invitationRepository.save(new Invitation("guest" + i + "@example.com", group));
+        }
+        group.setDeleted(true);
+        groupRepository.save(group);
+        GroupDeletionJob job = jobRepository.save(new GroupDeletionJob(group.getId(), 5));
+
+        groupDeletionService.run(job.getId());
+
+        GroupDeletionJob finished = jobRepository.findById(job.getId()).orElseThrow();
+        assertEquals(GroupDeletionJob.Phase.COMPLETED, finished.getPhase());
+        assertEquals(5, finished.getTasksDeleted());
+        assertEquals(3, finished.getInvitationsDeleted());
+        assertEquals(0, taskRepository.countByGroupId(group.getId()));
+        assertTrue(groupRepository.findById(group.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRefreshTokenStoreTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private InMemoryRefreshTokenStore store;
+
+    public InMemoryRefreshTokenStoreTest() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(store, "refreshTokenDurationMs", 60_000L);
+    }
+
+    @Test
+    void testRedeemRotatesToken() {
+        User user = new User();
+        user.setId(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        String first = store.issue(7L);
+        RefreshTokenStore.Grant grant = store.redeem(first).orElseThrow();
+
+        assertEquals(7L, grant.getUser().getId());
+        assertNotEquals(first, grant.getRefreshToken());
+        assertTrue(store.redeem(first).isEmpty());
+        assertTrue(store.redeem(grant.getRefreshToken()).isPresent());
+    }
+
+    @Test
+    void testPurgeRemovesExpiredTokens() {
+        ReflectionTestUtils.setField(store, "refreshTokenDurationMs", -1L);
+        store.issue(1L);
+        store.issue(2L);
+
+        assertEquals(2, store.purgeExpired(10));
+        assertEquals(0, store.purgeExpired(10));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.Invitation;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.BulkInvitationResult;
+import com.example.Task_Manager_api.payload.BulkInvitationResult.Status;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.InvitationRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class InvitationServiceBulkTest {
+
+    @Autowired
+    private InvitationService invitationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private InvitationRepository invitationRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testPerAddressResults() {
+        User owner = userRepository.save(new User(null, "bulk-owner", "x", "bulk-owner@example.com",
+                Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Bulk group", owner));
+        invitationRepository.save(new Invitation("Already@Example.com", group));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("bulk-owner", null));
+
+        // No SMTP server in tests, so delivery fails but the invitations stay
+        BulkInvitationResult result = invitationService.inviteMembers(group.getId(), List.of(
+                "new1@example.com", "NEW2@example.com ", "new1@example.com", "already@example.com",
+                "bulk-owner@example.com", "not-an-email"));
+
+        List<Status> statuses = result.getResults().stream().map(BulkInvitationResult.Item::getStatus).toList();
+        assertEquals(List.of(Status.EMAIL_FAILED, Status.EMAIL_FAILED, Status.DUPLICATE, Status.ALREADY_INVITED,
+                Status.ALREADY_MEMBER, Status.INVALID), statuses);
+        assertEquals(2, result.getInvited());
+        assertTrue(invitationRepository.findByEmailAndGroupId("new2@example.com", group.getId()).isPresent());
+        assertEquals(Invitation.InvitationStatus.PENDING,
+                invitationRepository.findByEmailAndGroupId("new1@example.com", group.getId()).orElseThrow()
+                        .getStatus());
+    }
+
+    @Test
+    void testConcurrentBulkInvitesCreateOneInvitationPerAddress() {
+        User owner = userRepository.save(new User(null, "bulk-race-owner", "x", "bulk-race-owner@example.com",
+                Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Bulk race group", owner));
+        List<String> emails = IntStream.range(0, 20).mapToObj(i -> "race" + i + "@example.com").toList();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<BulkInvitationResult>> requests = IntStream.range(0, 2)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    SecurityContextHolder.getContext()
+                            .setAuthentication(new UsernamePasswordAuthenticationToken("bulk-race-owner", null));
+                    try {
+                        start.await();
+                        // Mixed case must not get past the unique key either
+                        return invitationService.inviteMembers(group.getId(), i == 0 ? emails
+                                : emails.stream().map(e -> e.toUpperCase(Locale.ROOT)).toList());
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }))
+                .toList();
+        start.countDown();
+
+        assertEquals(emails.size(), requests.stream().mapToLong(r -> r.join().getInvited()).sum());
+        for (String email : emails) {
+            assertTrue(invitationRepository.findByEmailAndGroupId(email, group.getId()).isPresent(), email);
+        }
+        assertEquals(emails.size(), invitationRepository.findAll().stream()
+                .filter(inv -> inv.getGroup().getId().equals(group.getId())).count());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.TaskManagerApiApplication;
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskChangeEvent;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots two application contexts against the same embedded database and
+ * checks that a broadcast published on one node reaches the other node's
+ * broker through the shared cluster_events table, and that group cache
+ * evictions reach the other node's cache the same way.
+ */
+class JdbcClusterEventBusMultiNodeTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(TaskManagerApiApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:cluster_test;DB_CLOSE_DELAY=-1;MODE=MariaDB;NON_KEYWORDS=VALUE,TIMESTAMP,USER",
+                        "spring.jmx.enabled=false",
+                        "cluster.event-bus=jdbc",
+                        "cluster.node-id=" + nodeId,
+                        "cluster.jdbc.poll-interval-ms=20")
+                .run();
+    }
+
+    private static BlockingQueue<Message<?>> capture(ConfigurableApplicationContext node, String destination) {
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        node.getBean("brokerChannel", SubscribableChannel.class).subscribe(message -> {
+            if (destination.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                received.add(message);
+            }
+        });
+        return received;
+    }
+
+    @Test
+    void testEventPublishedOnOneNodeIsDeliveredOnTheOther() throws Exception {
+        BlockingQueue<Message<?>> onA = capture(nodeA, "/topic/tasks");
+        BlockingQueue<Message<?>> onB = capture(nodeB, "/topic/tasks");
+
+        long start = System.nanoTime();
+        nodeA.getBean(ClusterEventBus.class).publish("/topic/tasks", new TaskChangeEvent(Set.of(42L)));
+
+        Message<?> remote = onB.poll(5, TimeUnit.SECONDS);
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertNotNull(remote, "node-b never received the event");
+        assertTrue(new String((byte[]) remote.getPayload()).contains("42"));
+        assertTrue(latencyMs < 2000, "cross-node delivery took " + latencyMs + " ms");
+
+        // The publishing node delivers locally once and skips its own row when polling
+        assertNotNull(onA.poll(1, TimeUnit.SECONDS));
+        assertNull(onA.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testMemberWhoLeavesOnOneNodeLosesAccessOnTheOther() throws Exception {
+        UserRepository users = nodeA.getBean(UserRepository.class);
+        User owner = users.save(new User(null, "cluster-owner", "x", "cluster-owner@example.com",
+                Set.of("ROLE_USER")));
+        User member = users.save(new User(null, "cluster-member", "x", "cluster-member@example.com",
+                Set.of("ROLE_USER")));
+        GroupRepository groups = nodeA.getBean(GroupRepository.class);
+        Group group = groups.save(new Group("Cluster group", owner));
+        new TransactionTemplate(nodeA.getBean(PlatformTransactionManager.class)).executeWithoutResult(status ->
+                nodeA.getBean(GroupService.class).addMember(groups.findById(group.getId()).orElseThrow(), member));
+
+        GroupCache cacheOnB = nodeB.getBean(GroupCache.class);
+        assertTrue(cacheOnB.isMember(group.getId(), member.getId()));
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("cluster-member", null));
+        try {
+            nodeA.getBean(GroupService.class).leaveGroup(group.getId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+
+        // Well inside the cache TTL: node B drops its entry when the eviction arrives
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cacheOnB.isMember(group.getId(), member.getId()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(cacheOnB.isMember(group.getId(), member.getId()));
+        assertTrue(cacheOnB.getGroupsForUser(member.getId()).isEmpty());
+    }
+}
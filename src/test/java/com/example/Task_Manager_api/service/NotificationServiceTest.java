@@ -0,0 +1,94 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Notification;
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.CursorPage;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testCommentsNotifyTheOwnerAndCountsFollowReads() throws InterruptedException {
+        User owner = userRepository.save(new User(null, "inbox-owner", "x", "inbox-owner@example.com",
+                Set.of("ROLE_USER")));
+        userRepository.save(new User(null, "inbox-commenter", "x", "inbox-commenter@example.com",
+                Set.of("ROLE_USER")));
+        Task task = new Task();
+        task.setTitle("Review budget");
+        task.setUser(owner);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setCreatedAt(LocalDateTime.now());
+        task = taskRepository.save(task);
+
+        loginAs("inbox-owner");
+        assertEquals(0, notificationService.getUnreadCount());
+
+        loginAs("inbox-commenter");
+        commentService.addComment(task.getId(), "First");
+        commentService.addComment(task.getId(), "Second");
+        commentService.addComment(task.getId(), "Third");
+        assertEquals(0, notificationService.getUnreadCount());
+
+        // Written in the background after each comment commits
+        loginAs("inbox-owner");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (notificationService.getUnreadCount() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(3, notificationService.getUnreadCount());
+
+        CursorPage<Notification> first = notificationService.getInbox(null, 2);
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+        assertEquals(NotificationService.COMMENT_ADDED, first.getItems().get(0).getType());
+        assertEquals(task.getId(), first.getItems().get(0).getTaskId());
+        CursorPage<Notification> second = notificationService.getInbox(first.getNextCursor(), 2);
+        assertEquals(1, second.getItems().size());
+        assertNull(second.getNextCursor());
+        assertTrue(second.getItems().get(0).getId() < first.getItems().get(1).getId());
+
+        assertEquals(1, notificationService.markRead(List.of(first.getItems().get(0).getId(),
+                first.getItems().get(1).getId())));
+        // Marking again changes nothing
+        assertEquals(1, notificationService.markRead(List.of(first.getItems().get(0).getId())));
+        assertEquals(0, notificationService.markAllRead());
+    }
+
+    private static void loginAs(String username) {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(username, null));
+    }
+}
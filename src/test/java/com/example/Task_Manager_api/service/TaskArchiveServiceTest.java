@@ -0,0 +1,121 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.*;
+import com.example.Task_Manager_api.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private TaskHierarchyService taskHierarchyService;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Test
+    void testArchiveAndRestoreRoundTrip() {
+        User owner = userRepository.save(new User(null, "archive-owner", "x", "archive-owner@example.com",
+                Set.of("ROLE_USER")));
+        Task old = newTask(owner, "Old work", LocalDateTime.now().minusYears(1));
+        Task recent = newTask(owner, "Recent work", LocalDateTime.now().minusDays(1));
+        Comment comment = new Comment();
+        comment.setText("done and dusted");
+        comment.setAuthor(owner);
+        comment.setTask(old);
+        commentRepository.save(comment);
+        activityLogRepository.save(new ActivityLog("TASK_CREATED", "Created", owner, old));
+
+        taskArchiveService.archiveCompletedTasks();
+
+        assertFalse(taskRepository.existsById(old.getId()));
+        assertTrue(taskRepository.existsById(recent.getId()));
+        assertEquals("Old work", taskArchiveService.findArchived(old.getId()).orElseThrow().getTitle());
+        assertEquals(1, taskArchiveService.getArchivedTasks(owner.getId(), null, 10).getItems().size());
+
+        taskArchiveService.restore(old.getId());
+
+        assertTrue(taskRepository.existsById(old.getId()));
+        assertTrue(taskArchiveService.findArchived(old.getId()).isEmpty());
+        assertEquals(1, commentRepository.findThreadPage(old.getId(), 0L, PageRequest.of(0, 10)).size());
+        assertEquals(1, activityLogRepository.findTaskActivities(old.getId(), LocalDateTime.now(),
+                LocalDateTime.now().plusYears(2), PageRequest.of(0, 10))
+                .getTotalElements());
+    }
+
+    @Test
+    void testRestoredSubtaskKeepsParentAndBlockers() {
+        User owner = userRepository.save(new User(null, "archive-tree-owner", "x", "archive-tree-owner@example.com",
+                Set.of("ROLE_USER")));
+        Task epic = newTask(owner, "Epic", LocalDateTime.now().minusDays(1));
+        Task blocker = newTask(owner, "Blocker", LocalDateTime.now().minusDays(1));
+        Task subtask = newTask(owner, "Old subtask", LocalDateTime.now().minusYears(1));
+        taskHierarchyService.setParent(subtask.getId(), epic.getId());
+        taskHierarchyService.addBlocker(subtask.getId(), blocker.getId());
+
+        taskArchiveService.archiveCompletedTasks();
+        assertFalse(taskRepository.existsById(subtask.getId()));
+
+        taskArchiveService.restore(subtask.getId());
+
+        assertEquals(epic.getId(), taskHierarchyService.getParentId(subtask.getId()));
+        assertEquals(List.of(blocker.getId()), taskHierarchyService.getBlockers(subtask.getId(), false).stream()
+                .map(Task::getId).toList());
+    }
+
+    @Test
+    void testRestoreIntoDeletedGroupIsRejected() {
+        User owner = userRepository.save(new User(null, "archive-group-owner", "x",
+                "archive-group-owner@example.com", Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Archive group", owner));
+        Task task = newTask(owner, "Old group work", LocalDateTime.now().minusYears(1));
+        task.setGroup(group);
+        taskRepository.save(task);
+        taskArchiveService.archiveCompletedTasks();
+
+        group.setDeleted(true);
+        groupRepository.save(group);
+
+        ResponseStatusException rejected = assertThrows(ResponseStatusException.class,
+                () -> taskArchiveService.restore(task.getId()));
+        assertEquals(HttpStatus.NOT_FOUND, rejected.getStatusCode());
+        assertFalse(taskRepository.existsById(task.getId()));
+        assertTrue(taskArchiveService.findArchived(task.getId()).isPresent());
+    }
+
+    private Task newTask(User owner, String title, LocalDateTime completedAt) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setUser(owner);
+        task.setCreatedAt(completedAt.minusDays(3));
+        task.setCompletedAt(completedAt);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Open event streams must not each hold a pooled connection (open-in-view keeps the request's
+// EntityManager, and any connection it took, until the stream ends)
+@SpringBootTest(properties = {
+        "rate-limit.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=2000"})
+@AutoConfigureMockMvc
+class TaskChangeFeedConnectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int poolSize;
+
+    @Test
+    void testOpenStreamsLeaveTheConnectionPoolFree() throws Exception {
+        userRepository.save(new User(null, "stream-pool-user", "x", "stream-pool-user@example.com",
+                Set.of("ROLE_USER")));
+
+        for (int i = 0; i < poolSize + 2; i++) {
+            mockMvc.perform(get("/api/tasks/stream").with(user("stream-pool-user").roles("USER")))
+                    .andExpect(request().asyncStarted());
+        }
+
+        mockMvc.perform(get("/api/tasks").with(user("stream-pool-user").roles("USER")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskChangeEvent;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskChangeFeedTest {
+
+    private static final Pattern READY_ID = Pattern.compile("event:ready\\nid:(\\d+)");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testStreamsLiveEventsReplaysMissedOnesAndSignalsResync() throws Exception {
+        userRepository.save(new User(null, "stream-user", "x", "stream-user@example.com", Set.of("ROLE_USER")));
+
+        MockHttpServletResponse live = open(null);
+        String opened = await(live, body -> READY_ID.matcher(body).find());
+        Matcher ready = READY_ID.matcher(opened);
+        assertTrue(ready.find());
+        String resumeFrom = ready.group(1);
+
+        taskChangeFeed.append("/topic/groups/987654/tasks", new TaskChangeEvent(Set.of(41L)));
+        taskChangeFeed.append("/topic/tasks", new TaskChangeEvent(Set.of(42L)));
+        taskChangeFeed.append("/topic/tasks/42/comments", new TaskChangeEvent(Set.of(43L)));
+        String body = await(live, b -> b.contains("[42]"));
+        assertTrue(body.contains("\"destination\":\"/topic/tasks\""));
+        // Not a member of that group, and comment threads are not part of the feed
+        assertFalse(body.contains("[41]"));
+        assertFalse(body.contains("[43]"));
+
+        // Reconnecting from the id it was given replays what came after it
+        MockHttpServletResponse resumed = open(resumeFrom);
+        assertTrue(await(resumed, b -> b.contains("[42]")).contains("event:ready"));
+
+        // An id from before the buffer asks the client to refetch
+        MockHttpServletResponse stale = open("1");
+        String resync = await(stale, b -> b.contains("event:resync"));
+        assertFalse(resync.contains("[42]"));
+    }
+
+    private MockHttpServletResponse open(String lastEventId) throws Exception {
+        var builder = get("/api/tasks/stream").with(user("stream-user").roles("USER"));
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn().getResponse();
+    }
+
+    private static String await(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = response.getContentAsString();
+        while (!condition.test(body) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        assertTrue(condition.test(body), "Stream did not receive the expected event: " + body);
+        return body;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskChanges;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "tasks.changes.settle-ms=0")
+class TaskChangeServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testTokensReturnOnlyWhatChanged() {
+        userRepository.save(new User(null, "sync-owner", "x", "sync-owner@example.com", Set.of("ROLE_USER")));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("sync-owner", null));
+        Task kept = create("Kept");
+        Task edited = create("Edited");
+        Task removed = create("Removed");
+
+        TaskChanges first = taskService.getChanges(null, null);
+        assertTrue(first.isFull());
+        assertEquals(List.of(kept.getId(), edited.getId(), removed.getId()), ids(first));
+
+        // Nothing happened: nothing to send, and the token stays put
+        TaskChanges idle = taskService.getChanges(first.getToken(), null);
+        assertFalse(idle.isFull());
+        assertTrue(idle.getTasks().isEmpty());
+        assertTrue(idle.getDeletedIds().isEmpty());
+
+        Task patch = new Task();
+        patch.setStatus(TaskStatus.IN_PROGRESS);
+        taskService.updateTask(edited.getId(), patch);
+        taskService.deleteTask(removed.getId());
+        Task added = create("Added");
+
+        TaskChanges delta = taskService.getChanges(idle.getToken(), null);
+        assertFalse(delta.isFull());
+        assertEquals(List.of(edited.getId(), added.getId()), ids(delta));
+        assertEquals(TaskStatus.IN_PROGRESS, delta.getTasks().get(0).getStatus());
+        assertEquals(List.of(removed.getId()), delta.getDeletedIds());
+
+        // Paging: one change per call, each token continuing where the last stopped
+        TaskChanges page = taskService.getChanges(idle.getToken(), 1);
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(edited.getId()), ids(page));
+        page = taskService.getChanges(page.getToken(), 1);
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(removed.getId()), page.getDeletedIds());
+        page = taskService.getChanges(page.getToken(), 1);
+        assertFalse(page.isHasMore());
+        assertEquals(List.of(added.getId()), ids(page));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> taskService.getChanges("not-a-token", null));
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private Task create(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.saveTask(task);
+    }
+
+    private static List<Long> ids(TaskChanges changes) {
+        return changes.getTasks().stream().map(Task::getId).toList();
+    }
+}
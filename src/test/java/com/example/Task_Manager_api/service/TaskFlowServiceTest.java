@@ -0,0 +1,80 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.TaskStatusEvent;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.FlowPoint;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskStatusEventRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "flow.settle-ms=0")
+class TaskFlowServiceTest {
+
+    @Autowired
+    private TaskFlowService taskFlowService;
+
+    @Autowired
+    private TaskStatusEventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Test
+    void testProjectionHandlesLateEventsAndMatchesRebuild() {
+        User owner = userRepository.save(new User(null, "flow-owner", "x", "flow-owner@example.com",
+                Set.of("ROLE_USER")));
+        Long groupId = groupRepository.save(new Group("Flow group", owner)).getId();
+        LocalDate today = LocalDate.now();
+
+        record(1L, groupId, null, TaskStatus.TO_DO, today.minusDays(3));
+        record(2L, groupId, null, TaskStatus.TO_DO, today.minusDays(3));
+        record(1L, groupId, TaskStatus.TO_DO, TaskStatus.COMPLETED, today.minusDays(1));
+        taskFlowService.project();
+
+        List<FlowPoint> flow = taskFlowService.getFlow(groupId, today.minusDays(4), today);
+        assertEquals(0, flow.get(0).getRemaining());
+        assertEquals(2, flow.get(1).getToDo());
+        assertEquals(2, flow.get(2).getToDo());
+        assertEquals(1, flow.get(3).getToDo());
+        assertEquals(1, flow.get(4).getCompleted());
+
+        // A transition dated before already projected days also moves the later days
+        record(2L, groupId, TaskStatus.TO_DO, TaskStatus.IN_PROGRESS, today.minusDays(2));
+        taskFlowService.project();
+
+        flow = taskFlowService.getFlow(groupId, today.minusDays(4), today);
+        assertEquals(1, flow.get(2).getInProgress());
+        assertEquals(0, flow.get(4).getToDo());
+        assertEquals(1, flow.get(4).getInProgress());
+        assertEquals(1, flow.get(4).getRemaining());
+
+        taskFlowService.rebuild(groupId);
+        List<FlowPoint> rebuilt = taskFlowService.getFlow(groupId, today.minusDays(4), today);
+        for (int i = 0; i < flow.size(); i++) {
+            assertEquals(flow.get(i).getToDo(), rebuilt.get(i).getToDo());
+            assertEquals(flow.get(i).getInProgress(), rebuilt.get(i).getInProgress());
+            assertEquals(flow.get(i).getCompleted(), rebuilt.get(i).getCompleted());
+        }
+    }
+
+    private void record(Long taskId, Long groupId, TaskStatus from, TaskStatus to, LocalDate day) {
+        TaskStatusEvent event = new TaskStatusEvent(taskId, groupId, from, to);
+        ReflectionTestUtils.setField(event, "occurredAt", day.atTime(12, 0));
+        eventRepository.save(event);
+    }
+}
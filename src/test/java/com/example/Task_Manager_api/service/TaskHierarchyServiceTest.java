@@ -0,0 +1,121 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskProgress;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskHierarchyServiceTest {
+
+    @Autowired
+    private TaskHierarchyService hierarchyService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testSubtreesProgressAndCycles() {
+        User owner = userRepository.save(new User(null, "tree-owner", "x", "tree-owner@example.com",
+                Set.of("ROLE_USER")));
+        Task epic = task("Epic", owner, TaskStatus.IN_PROGRESS);
+        Task story = task("Story", owner, TaskStatus.TO_DO);
+        Task subtask = task("Subtask", owner, TaskStatus.COMPLETED);
+        Task other = task("Other", owner, TaskStatus.TO_DO);
+
+        // Attach the story's subtree after building it; the epic still sees both levels
+        hierarchyService.setParent(subtask.getId(), story.getId());
+        hierarchyService.setParent(story.getId(), epic.getId());
+        assertEquals(List.of(story.getId(), subtask.getId()), ids(hierarchyService.getSubtasks(epic.getId(), true)));
+        assertEquals(List.of(story.getId()), ids(hierarchyService.getSubtasks(epic.getId(), false)));
+
+        TaskProgress progress = hierarchyService.getProgress(epic.getId());
+        assertEquals(2, progress.getTotal());
+        assertEquals(1, progress.getCompleted());
+
+        ResponseStatusException cycle = assertThrows(ResponseStatusException.class,
+                () -> hierarchyService.setParent(epic.getId(), subtask.getId()));
+        assertEquals(HttpStatus.CONFLICT, cycle.getStatusCode());
+
+        // Moving the story carries its subtask along and leaves the epic empty
+        hierarchyService.setParent(story.getId(), other.getId());
+        assertTrue(hierarchyService.getSubtasks(epic.getId(), true).isEmpty());
+        assertEquals(List.of(story.getId(), subtask.getId()), ids(hierarchyService.getSubtasks(other.getId(), true)));
+        assertEquals(story.getId(), hierarchyService.getParentId(subtask.getId()));
+    }
+
+    @Test
+    void testBlockedTaskCannotComplete() {
+        User owner = userRepository.save(new User(null, "deps-owner", "x", "deps-owner@example.com",
+                Set.of("ROLE_USER")));
+        Task design = task("Design", owner, TaskStatus.TO_DO);
+        Task build = task("Build", owner, TaskStatus.TO_DO);
+        Task ship = task("Ship", owner, TaskStatus.TO_DO);
+
+        hierarchyService.addBlocker(ship.getId(), build.getId());
+        hierarchyService.addBlocker(build.getId(), design.getId());
+        // A shortcut edge adds a second path from ship to design
+        hierarchyService.addBlocker(ship.getId(), design.getId());
+        assertEquals(List.of(design.getId(), build.getId()), ids(hierarchyService.getBlockers(ship.getId(), true)));
+
+        assertThrows(ResponseStatusException.class, () -> hierarchyService.addBlocker(design.getId(), ship.getId()));
+
+        // Removing the shortcut keeps design blocking ship through build
+        hierarchyService.removeBlocker(ship.getId(), design.getId());
+        assertEquals(List.of(build.getId()), ids(hierarchyService.getBlockers(ship.getId(), false)));
+        assertEquals(List.of(design.getId(), build.getId()), ids(hierarchyService.getBlockers(ship.getId(), true)));
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("deps-owner", null));
+        Task done = new Task();
+        done.setStatus(TaskStatus.COMPLETED);
+        ResponseStatusException blocked = assertThrows(ResponseStatusException.class,
+                () -> taskService.updateTask(ship.getId(), done));
+        assertEquals(HttpStatus.CONFLICT, blocked.getStatusCode());
+
+        // Deleting build drops both of its edges, and with them design's hold on ship
+        taskService.deleteTask(build.getId());
+        assertTrue(hierarchyService.getBlockers(ship.getId(), true).isEmpty());
+        assertEquals(TaskStatus.COMPLETED, taskService.updateTask(ship.getId(), done).getStatus());
+    }
+
+    private Task task(String title, User owner, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(owner);
+        task.setStatus(status);
+        task.setCreatedAt(LocalDateTime.now());
+        return taskRepository.save(task);
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+}
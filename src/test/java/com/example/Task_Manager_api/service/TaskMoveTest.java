@@ -0,0 +1,97 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskMove;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskMoveTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRankService taskRankService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testMovesReorderColumnsAndRankUnrankedTasks() {
+        User owner = userRepository.save(new User(null, "board-owner", "x", "board-owner@example.com",
+                Set.of("ROLE_USER")));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("board-owner", null));
+
+        // Tasks from before ranking existed have no rank
+        Task legacy = new Task();
+        legacy.setTitle("Legacy");
+        legacy.setUser(owner);
+        legacy.setStatus(TaskStatus.TO_DO);
+        legacy.setCreatedAt(LocalDateTime.now().minusDays(1));
+        legacy = taskRepository.save(legacy);
+
+        Task a = create("First");
+        Task b = create("Second");
+        Task c = create("Third");
+        assertNotNull(a.getRank());
+        assertTrue(a.getRank().compareTo(b.getRank()) < 0);
+        assertEquals(List.of(a.getId(), b.getId(), c.getId(), legacy.getId()), column(owner));
+
+        // c to the top, then a below c
+        taskService.moveTask(c.getId(), move(null, null));
+        taskService.moveTask(a.getId(), move(null, c.getId()));
+        assertEquals(List.of(c.getId(), a.getId(), b.getId(), legacy.getId()), column(owner));
+
+        // Dropping below an unranked task ranks the column first
+        taskService.moveTask(c.getId(), move(null, legacy.getId()));
+        assertEquals(List.of(a.getId(), b.getId(), legacy.getId(), c.getId()), column(owner));
+
+        Task moved = taskService.moveTask(b.getId(), move(TaskStatus.IN_PROGRESS, null));
+        assertEquals(TaskStatus.IN_PROGRESS, moved.getStatus());
+        assertEquals(List.of(a.getId(), legacy.getId(), c.getId()), column(owner));
+
+        taskRankService.rebalance(TaskRankService.BoardColumn.of(taskRepository.findById(a.getId()).orElseThrow()));
+        assertEquals(List.of(a.getId(), legacy.getId(), c.getId()), column(owner));
+    }
+
+    private Task create(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        return taskService.saveTask(task);
+    }
+
+    private static TaskMove move(TaskStatus status, Long afterId) {
+        TaskMove move = new TaskMove();
+        move.setStatus(status);
+        move.setAfterId(afterId);
+        return move;
+    }
+
+    private List<Long> column(User owner) {
+        return taskRepository.findPersonalColumn(owner.getId(), TaskStatus.TO_DO).stream().map(Task::getId).toList();
+    }
+}
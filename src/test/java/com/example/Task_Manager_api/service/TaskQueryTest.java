@@ -0,0 +1,125 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskPriority;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.payload.TaskQuery;
+import com.example.Task_Manager_api.payload.TaskQueryPage;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskQueryTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testCombinedFiltersWithKeysetPaging() {
+        User owner = userRepository.save(new User(null, "query-owner", "x", "query-owner@example.com",
+                Set.of("ROLE_USER")));
+        User other = userRepository.save(new User(null, "query-other", "x", "query-other@example.com",
+                Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Query group", other));
+        LocalDate today = LocalDate.now();
+
+        Task undated = task("Undated", owner, null, TaskStatus.TO_DO, null);
+        Task first = task("Due first", owner, null, TaskStatus.TO_DO, today);
+        Task tiedA = task("Due later A", owner, null, TaskStatus.IN_PROGRESS, today.plusDays(2));
+        Task tiedB = task("Due later B", other, owner, TaskStatus.TO_DO, today.plusDays(2));
+        task("Completed", owner, null, TaskStatus.COMPLETED, today.plusDays(1));
+        task("Someone else's", other, null, TaskStatus.TO_DO, today);
+        Task grouped = task("Group task", other, null, TaskStatus.TO_DO, today);
+        grouped.setGroup(group);
+        taskRepository.save(grouped);
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("query-owner", null));
+
+        // Open tasks owned by or assigned to the caller, nulls first, two per page
+        TaskQuery query = new TaskQuery();
+        query.setStatus(List.of(TaskStatus.TO_DO, TaskStatus.IN_PROGRESS));
+        query.setSort("dueDate");
+        query.setDirection("asc");
+        query.setSize(2);
+        List<Long> ids = new ArrayList<>();
+        TaskQueryPage page;
+        do {
+            page = taskService.queryTasks(query);
+            page.getItems().forEach(t -> ids.add(t.getId()));
+            query.setCursor(page.getNextCursor());
+        } while (page.getNextCursor() != null);
+        assertEquals(List.of(undated.getId(), first.getId(), tiedA.getId(), tiedB.getId()), ids);
+
+        // The same descending, with a due range and text filter
+        TaskQuery ranged = new TaskQuery();
+        ranged.setDueFrom(today.plusDays(1));
+        ranged.setText("later");
+        ranged.setSort("dueDate");
+        assertEquals(List.of(tiedB.getId(), tiedA.getId()),
+                taskService.queryTasks(ranged).getItems().stream().map(Task::getId).toList());
+
+        TaskQuery assigned = new TaskQuery();
+        assigned.setScope(TaskQuery.Scope.ASSIGNED);
+        assertEquals(List.of(tiedB.getId()),
+                taskService.queryTasks(assigned).getItems().stream().map(Task::getId).toList());
+
+        TaskQuery priority = new TaskQuery();
+        priority.setPriority(List.of(TaskPriority.HIGH));
+        assertTrue(taskService.queryTasks(priority).getItems().isEmpty());
+
+        TaskQuery foreignGroup = new TaskQuery();
+        foreignGroup.setGroupId(group.getId());
+        ResponseStatusException denied = assertThrows(ResponseStatusException.class,
+                () -> taskService.queryTasks(foreignGroup));
+        assertEquals(HttpStatus.FORBIDDEN, denied.getStatusCode());
+
+        TaskQuery unsortable = new TaskQuery();
+        unsortable.setSort("description");
+        assertThrows(ResponseStatusException.class, () -> taskService.queryTasks(unsortable));
+    }
+
+    private Task task(String title, User owner, User assignee, TaskStatus status, LocalDate dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(owner);
+        task.setAssignedUser(assignee);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(LocalDateTime.now());
+        return taskRepository.save(task);
+    }
+}
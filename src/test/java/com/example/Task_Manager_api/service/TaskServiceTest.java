@@ -1,11 +1,15 @@
 package com.example.Task_Manager_api.service;
 
 import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.User;
 import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Optional;
 
@@ -17,11 +21,19 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @InjectMocks
     private TaskService taskService;
 
+    private final User owner = new User(1L, "owner", "secret", "owner@example.com", null);
+
     public TaskServiceTest() {
         MockitoAnnotations.openMocks(this);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("owner", null));
+        when(userRepository.findByUsername("owner")).thenReturn(Optional.of(owner));
     }
 
     @Test
@@ -29,6 +41,7 @@ class TaskServiceTest {
         Task task = new Task();
         task.setId(1L);
         task.setTitle("Test Task");
+        task.setUser(owner);
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
 
@@ -0,0 +1,77 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.*;
+import com.example.Task_Manager_api.payload.StatsPoint;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskStatsServiceTest {
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void testBackfillAndIncrementalCountsShareSeries() {
+        User owner = userRepository.save(new User(null, "stats-owner", "x", "stats-owner@example.com",
+                Set.of("ROLE_USER")));
+        Group group = groupRepository.save(new Group("Stats group", owner));
+        LocalDate today = LocalDate.now();
+
+        Task task = new Task();
+        task.setTitle("Measured");
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setUser(owner);
+        task.setGroup(group);
+        task.setCreatedAt(today.minusDays(3).atTime(9, 0));
+        task.setCompletedAt(today.minusDays(1).atTime(9, 0));
+        task.setDueDate(today.minusDays(5));
+        taskRepository.save(task);
+
+        taskStatsService.backfill(today.minusDays(6), today.minusDays(1));
+
+        List<StatsPoint> days = taskStatsService.getSeries(TaskDailyStat.Scope.GROUP, group.getId(),
+                today.minusDays(6), today.minusDays(1), TaskStatsService.Granularity.DAY);
+        assertEquals(6, days.size());
+        assertEquals(1, days.get(3).getCreated());
+        assertEquals(1, days.get(3).getOverdue());
+        assertEquals(1, days.get(4).getOverdue());
+        assertEquals(0, days.get(5).getOverdue());
+        assertEquals(1, days.get(5).getCompleted());
+        assertEquals(48.0, days.get(5).getAvgLeadTimeHours(), 0.001);
+
+        // Reopened now: counted after commit (no transaction here) and written on flush
+        taskStatsService.taskReopened(task);
+        taskStatsService.flush();
+
+        List<StatsPoint> months = taskStatsService.getSeries(TaskDailyStat.Scope.USER, owner.getId(),
+                today.withDayOfMonth(1), today, TaskStatsService.Granularity.MONTH);
+        assertEquals(1, months.size());
+        assertEquals(1, months.get(0).getReopened());
+
+        // Backfill keeps reopen counts, which have no other source
+        taskStatsService.backfill(today, today);
+        assertEquals(1, taskStatsService.getSeries(TaskDailyStat.Scope.USER, owner.getId(), today, today,
+                TaskStatsService.Granularity.DAY).get(0).getReopened());
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.Task_Manager_api.service;
+
+import com.example.Task_Manager_api.model.Group;
+import com.example.Task_Manager_api.model.Task;
+import com.example.Task_Manager_api.model.TaskStatus;
+import com.example.Task_Manager_api.model.TaskTemplate;
+import com.example.Task_Manager_api.model.User;
+import com.example.Task_Manager_api.repository.GroupRepository;
+import com.example.Task_Manager_api.repository.TaskRepository;
+import com.example.Task_Manager_api.repository.TaskTemplateRepository;
+import com.example.Task_Manager_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class TaskTemplateServiceTest {
+
+    @Autowired
+    private TaskTemplateService taskTemplateService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskTemplateRepository templateRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupService groupService;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testRuleParsingAndNextDates() {
+        LocalDate monday = LocalDate.of(2024, 1, 1);
+        RecurrenceRule weekly = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE");
+        assertEquals(monday, weekly.first(monday));
+        assertEquals(LocalDate.of(2024, 1, 3), weekly.next(monday, monday));
+        assertEquals(LocalDate.of(2024, 1, 15), weekly.next(monday, LocalDate.of(2024, 1, 3)));
+
+        RecurrenceRule monthly = RecurrenceRule.parse("RRULE:FREQ=MONTHLY;BYMONTHDAY=31;UNTIL=20240430");
+        assertEquals(LocalDate.of(2024, 1, 31), monthly.first(monday));
+        assertEquals(LocalDate.of(2024, 3, 31), monthly.next(monday, LocalDate.of(2024, 1, 31)));
+        assertNull(monthly.next(monday, LocalDate.of(2024, 3, 31)));
+
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=HOURLY"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+    }
+
+    @Test
+    void testCompletingAnOccurrenceCreatesTheNext() {
+        User owner = userRepository.save(new User(null, "recurring-owner", "x", "recurring-owner@example.com",
+                Set.of("ROLE_USER")));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("recurring-owner", null));
+        LocalDate today = LocalDate.now();
+
+        // Started ten days ago: the missed occurrences are skipped, not backfilled
+        TaskTemplate template = new TaskTemplate();
+        template.setTitle("Water the plants");
+        template.setRrule("FREQ=DAILY;COUNT=2");
+        template.setStartDate(today.minusDays(10));
+        template = taskTemplateService.createTemplate(template);
+
+        assertEquals(1, template.getOccurrences());
+        assertEquals(today.plusDays(1), template.getNextDueDate());
+        Task first = taskRepository.findById(template.getCurrentTaskId()).orElseThrow();
+        assertEquals(today, first.getDueDate());
+        assertEquals(owner.getId(), first.getUser().getId());
+        assertEquals(1, taskRepository.findByUser(owner).size());
+
+        taskService.updateTask(first.getId(), completed());
+        template = templateRepository.findById(template.getId()).orElseThrow();
+        assertNotEquals(first.getId(), template.getCurrentTaskId());
+        assertEquals(today.plusDays(1),
+                taskRepository.findById(template.getCurrentTaskId()).orElseThrow().getDueDate());
+        assertNull(template.getNextDueDate());
+        assertFalse(template.isActive());
+
+        // COUNT reached: completing the last occurrence creates nothing
+        taskService.updateTask(template.getCurrentTaskId(), completed());
+        assertEquals(2, taskRepository.findByUser(owner).size());
+    }
+
+    @Test
+    void testTemplateStopsWhenTheAssigneeLeavesTheGroup() {
+        User owner = userRepository.save(new User(null, "recurring-group-owner", "x",
+                "recurring-group-owner@example.com", Set.of("ROLE_USER")));
+        User assignee = userRepository.save(new User(null, "recurring-assignee", "x",
+                "recurring-assignee@example.com", Set.of("ROLE_USER")));
+        Group group = new Group("Recurring group", owner);
+        group.getMembers().add(assignee);
+        group = groupRepository.save(group);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("recurring-group-owner", null));
+
+        TaskTemplate template = new TaskTemplate();
+        template.setTitle("Daily report");
+        template.setRrule("FREQ=DAILY");
+        template.setStartDate(LocalDate.now());
+        template.setGroupId(group.getId());
+        template.setAssignedUserId(assignee.getId());
+        template = taskTemplateService.createTemplate(template);
+        Long firstId = template.getCurrentTaskId();
+        assertNotNull(firstId);
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("recurring-assignee", null));
+        groupService.leaveGroup(group.getId());
+
+        // Completing the occurrence would assign the next one to someone outside the group
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken("recurring-group-owner", null));
+        taskService.updateTask(firstId, completed());
+        template = templateRepository.findById(template.getId()).orElseThrow();
+        assertFalse(template.isActive());
+        assertNull(template.getCurrentTaskId());
+        assertEquals(1, taskRepository.findByUser(owner).size());
+    }
+
+    private static Task completed() {
+        Task update = new Task();
+        update.setStatus(TaskStatus.COMPLETED);
+        return update;
+    }
+}
@@ -0,0 +1,38 @@
+import api from './client';
+import type { CursorPage, EmailDelivery, Notification } from '../types';
+
+export const notificationService = {
+    getNotifications: async (cursor?: number, size = 20) => {
+        const response = await api.get<CursorPage<Notification>>('/notifications', {
+            params: { cursor, size },
+        });
+        return response.data;
+    },
+
+    getUnreadCount: async () => {
+        const response = await api.get<{ unreadCount: number }>('/notifications/unread-count');
+        return response.data.unreadCount;
+    },
+
+    markRead: async (ids: number[]) => {
+        const response = await api.post<{ unreadCount: number }>('/notifications/read', { ids });
+        return response.data.unreadCount;
+    },
+
+    markAllRead: async () => {
+        const response = await api.post<{ unreadCount: number }>('/notifications/read-all');
+        return response.data.unreadCount;
+    },
+
+    getEmailDelivery: async () => {
+        const response = await api.get<{ emailDelivery: EmailDelivery }>('/notifications/preferences');
+        return response.data.emailDelivery;
+    },
+
+    setEmailDelivery: async (emailDelivery: EmailDelivery) => {
+        const response = await api.put<{ emailDelivery: EmailDelivery }>('/notifications/preferences', {
+            emailDelivery,
+        });
+        return response.data.emailDelivery;
+    },
+};
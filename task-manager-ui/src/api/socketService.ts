@@ -12,6 +12,13 @@ class SocketService {
 
         this.client = new Client({
             webSocketFactory: () => new SockJS(SOCKET_URL),
+            // Authenticates the session so /user/queue/notifications reaches this user; re-read on every reconnect
+            beforeConnect: () => {
+                const token = localStorage.getItem('token');
+                if (this.client) {
+                    this.client.connectHeaders = token ? { Authorization: `Bearer ${token}` } : {};
+                }
+            },
             reconnectDelay: 5000,
             heartbeatIncoming: 4000,
             heartbeatOutgoing: 4000,
@@ -39,6 +39,12 @@ export const taskService = {
         return response.data;
     },
 
+    // Moves a card on the board; afterId is the card it lands under (omit for the top of the column)
+    moveTask: async (id: number, status: TaskStatus, afterId?: number) => {
+        const response = await api.patch<Task>(`/tasks/${id}/move`, { status, afterId });
+        return response.data;
+    },
+
     deleteTask: async (id: number) => {
         await api.delete(`/tasks/${id}`);
     },
@@ -58,9 +64,11 @@ export const taskService = {
         return response.data;
     },
 
-    getComments: async (taskId: number) => {
-        const response = await api.get<any[]>(`/tasks/${taskId}/comments`);
-        return response.data;
+    getComments: async (taskId: number, cursor?: number) => {
+        const response = await api.get<{ items: any[]; nextCursor: number | null }>(`/tasks/${taskId}/comments`, {
+            params: { cursor },
+        });
+        return response.data.items;
     },
 
     getTasksDueThisWeek: async () => {
@@ -10,6 +10,8 @@ import { useNavigate, useLocation } from 'react-router-dom';
 import { useAuthStore } from '../store/authStore';
 import { cn } from '../utils/cn';
 import { ConfirmDialog } from './ConfirmDialog';
+import { NotificationBell } from './NotificationBell';
+import { socketService } from '../api/socketService';
 
 interface AppLayoutProps {
     children: React.ReactNode;
@@ -47,6 +49,8 @@ export const AppLayout: React.FC<AppLayoutProps> = ({ children }) => {
     };
 
     const confirmLogout = () => {
+        // The socket was authenticated as this user
+        socketService.disconnect();
         logout();
         navigate('/login');
     };
@@ -82,7 +86,8 @@ export const AppLayout: React.FC<AppLayoutProps> = ({ children }) => {
                     ))}
                 </nav>
 
-                <div className="p-4 border-t border-white/5">
+                <div className="p-4 border-t border-white/5 space-y-2">
+                    <NotificationBell />
                     <button
                         onClick={handleLogout}
                         className="w-full flex items-center gap-3 px-4 py-3 text-gray-400 hover:text-red-400 hover:bg-red-400/5 rounded-xl transition-all"
@@ -28,7 +28,7 @@ import { Edit, Trash2, Clock, CheckCircle2, ListTodo } from 'lucide-react';
 
 interface KanbanBoardProps {
     tasks: Task[];
-    onUpdateStatus: (taskId: number, status: TaskStatus) => void;
+    onMove: (taskId: number, status: TaskStatus, afterId?: number) => void;
     onEdit: (task: Task) => void;
     onDelete: (taskId: number) => void;
 }
@@ -39,7 +39,17 @@ const COLUMNS: { id: TaskStatus; title: string; icon: React.ReactNode; color: st
     { id: 'COMPLETED', title: 'Completed', icon: <CheckCircle2 className="w-5 h-5" />, color: 'text-emerald-400' },
 ];
 
-export const KanbanBoard: React.FC<KanbanBoardProps> = ({ tasks, onUpdateStatus, onEdit, onDelete }) => {
+// Ranked cards first in rank order, then unranked ones oldest first (matches the server)
+const byRank = (a: Task, b: Task) => {
+    if (a.rank && b.rank) return a.rank < b.rank ? -1 : a.rank > b.rank ? 1 : a.id - b.id;
+    if (a.rank || b.rank) return a.rank ? -1 : 1;
+    return a.createdAt.localeCompare(b.createdAt) || a.id - b.id;
+};
+
+// Cards share a column order only with cards on the same board (same group, or both personal)
+const sameBoard = (a: Task, b: Task) => (a.group?.id ?? null) === (b.group?.id ?? null);
+
+export const KanbanBoard: React.FC<KanbanBoardProps> = ({ tasks, onMove, onEdit, onDelete }) => {
     const [activeId, setActiveId] = React.useState<number | null>(null);
 
     const sensors = useSensors(
@@ -69,23 +79,33 @@ export const KanbanBoard: React.FC<KanbanBoardProps> = ({ tasks, onUpdateStatus,
         const task = tasks.find(t => t.id === taskId);
         if (!task) return;
 
-        let newStatus: TaskStatus | null = null;
-
-        // Dropped directly over a column
+        // Dropped directly over a column: goes to the bottom of it
         if (['TO_DO', 'IN_PROGRESS', 'COMPLETED'].includes(overId)) {
-            newStatus = overId as TaskStatus;
-        }
-        // Dropped over another task
-        else {
-            const overTask = tasks.find(t => t.id === parseInt(overId));
-            if (overTask) {
-                newStatus = overTask.status;
+            const newStatus = overId as TaskStatus;
+            const column = tasks.filter(t => t.status === newStatus && t.id !== taskId && sameBoard(t, task)).sort(byRank);
+            if (newStatus !== task.status) {
+                onMove(taskId, newStatus, column[column.length - 1]?.id);
             }
+            return;
         }
 
-        if (newStatus && newStatus !== task.status) {
-            onUpdateStatus(taskId, newStatus);
+        // Dropped over another card: take its place
+        const overTask = tasks.find(t => t.id === parseInt(overId));
+        if (!overTask || overTask.id === taskId) return;
+        const column = tasks.filter(t => t.status === overTask.status && sameBoard(t, task)).sort(byRank);
+        const others = column.filter(t => t.id !== taskId);
+        if (!sameBoard(overTask, task)) {
+            // Another board's card: only the status can follow it
+            if (overTask.status !== task.status) {
+                onMove(taskId, overTask.status, others[others.length - 1]?.id);
+            }
+            return;
         }
+        const movingDown = overTask.status === task.status
+            && column.findIndex(t => t.id === taskId) < column.findIndex(t => t.id === overTask.id);
+        const overIndex = others.findIndex(t => t.id === overTask.id);
+        const above = movingDown ? overTask : overIndex > 0 ? others[overIndex - 1] : undefined;
+        onMove(taskId, overTask.status, above?.id);
     };
 
     const activeTask = activeId ? tasks.find(t => t.id === activeId) : null;
@@ -106,7 +126,7 @@ export const KanbanBoard: React.FC<KanbanBoardProps> = ({ tasks, onUpdateStatus,
                     <SortableColumn
                         key={column.id}
                         column={column}
-                        tasks={tasks.filter(t => t.status === column.id)}
+                        tasks={tasks.filter(t => t.status === column.id).sort(byRank)}
                         onEdit={onEdit}
                         onDelete={onDelete}
                     />
@@ -0,0 +1,120 @@
+import React from 'react';
+import { useQuery, useQueryClient } from '@tanstack/react-query';
+import { formatDistanceToNow } from 'date-fns';
+import { Bell } from 'lucide-react';
+import { notificationService } from '../api/notificationService';
+import { socketService } from '../api/socketService';
+import type { NotificationEvent } from '../types';
+import { cn } from '../utils/cn';
+
+const QUEUE = '/user/queue/notifications';
+
+export const NotificationBell: React.FC = () => {
+    const queryClient = useQueryClient();
+    const [isOpen, setIsOpen] = React.useState(false);
+
+    // Loaded once; afterwards every change arrives with the pushed count
+    const { data: unreadCount = 0 } = useQuery({
+        queryKey: ['notifications', 'unread'],
+        queryFn: notificationService.getUnreadCount,
+        staleTime: Infinity,
+    });
+
+    const { data: inbox } = useQuery({
+        queryKey: ['notifications', 'inbox'],
+        queryFn: () => notificationService.getNotifications(),
+        enabled: isOpen,
+    });
+
+    React.useEffect(() => {
+        socketService.connect(() => {
+            socketService.subscribe(QUEUE, (event: NotificationEvent) => {
+                queryClient.setQueryData(['notifications', 'unread'], event.unreadCount);
+                if (event.type === 'NOTIFICATION') {
+                    queryClient.invalidateQueries({ queryKey: ['notifications', 'inbox'] });
+                }
+            });
+        });
+        return () => socketService.unsubscribe(QUEUE);
+    }, [queryClient]);
+
+    const { data: emailDelivery } = useQuery({
+        queryKey: ['notifications', 'emailDelivery'],
+        queryFn: notificationService.getEmailDelivery,
+        enabled: isOpen,
+    });
+
+    const toggleDigest = async () => {
+        const next = emailDelivery === 'DIGEST' ? 'IMMEDIATE' : 'DIGEST';
+        queryClient.setQueryData(['notifications', 'emailDelivery'], await notificationService.setEmailDelivery(next));
+    };
+
+    const markAllRead = async () => {
+        queryClient.setQueryData(['notifications', 'unread'], await notificationService.markAllRead());
+        queryClient.invalidateQueries({ queryKey: ['notifications', 'inbox'] });
+    };
+
+    const markRead = async (id: number) => {
+        queryClient.setQueryData(['notifications', 'unread'], await notificationService.markRead([id]));
+        queryClient.invalidateQueries({ queryKey: ['notifications', 'inbox'] });
+    };
+
+    return (
+        <div className="relative">
+            <button
+                onClick={() => setIsOpen(!isOpen)}
+                className="w-full flex items-center gap-3 px-4 py-3 text-gray-400 hover:text-white hover:bg-white/5 rounded-xl transition-all"
+            >
+                <Bell className="w-5 h-5" />
+                Notifications
+                {unreadCount > 0 && (
+                    <span className="ml-auto min-w-[1.5rem] px-2 py-0.5 text-xs font-bold text-black bg-emerald-500 rounded-full">
+                        {unreadCount > 99 ? '99+' : unreadCount}
+                    </span>
+                )}
+            </button>
+
+            {isOpen && (
+                <div className="absolute bottom-full left-0 mb-2 w-80 max-h-96 overflow-y-auto glass-card p-4 space-y-3 custom-scrollbar z-[50]">
+                    <div className="flex items-center justify-between">
+                        <span className="text-sm font-semibold text-white">Notifications</span>
+                        {unreadCount > 0 && (
+                            <button onClick={markAllRead} className="text-xs text-emerald-500 hover:underline">
+                                Mark all read
+                            </button>
+                        )}
+                    </div>
+                    {(inbox?.items || []).length === 0 ? (
+                        <p className="text-gray-500 text-sm">You're all caught up.</p>
+                    ) : (
+                        inbox!.items.map((notification) => (
+                            <button
+                                key={notification.id}
+                                onClick={() => !notification.read && markRead(notification.id)}
+                                className={cn(
+                                    "w-full text-left p-2 rounded-lg transition-all",
+                                    notification.read ? "opacity-60" : "bg-white/5 hover:bg-white/10"
+                                )}
+                            >
+                                <p className="text-sm text-gray-300">{notification.message}</p>
+                                <p className="text-xs text-gray-500">
+                                    {formatDistanceToNow(new Date(notification.createdAt), { addSuffix: true })}
+                                </p>
+                            </button>
+                        ))
+                    )}
+                    <label className="flex items-center gap-2 pt-2 border-t border-white/10 text-xs text-gray-400 cursor-pointer">
+                        <input
+                            type="checkbox"
+                            checked={emailDelivery === 'DIGEST'}
+                            disabled={!emailDelivery}
+                            onChange={toggleDigest}
+                            className="accent-emerald-500"
+                        />
+                        Send me one daily summary email instead of one per task
+                    </label>
+                </div>
+            )}
+        </div>
+    );
+};
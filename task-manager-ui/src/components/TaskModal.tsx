@@ -20,7 +20,6 @@ interface User {
 interface Group {
     id: number;
     name: string;
-    members: User[];
 }
 
 const taskSchema = z.object({
@@ -86,7 +85,15 @@ export const TaskModal: React.FC<TaskModalProps> = ({ isOpen, onClose, onSubmit,
         enabled: isOpen,
     });
 
-    const selectedGroup = groups?.find(g => g.id.toString() === selectedGroupId);
+    // my-groups only carries the first few members, so the assignee list is fetched per group
+    const { data: groupMembers = [] } = useQuery({
+        queryKey: ['group-members', selectedGroupId],
+        queryFn: async () => {
+            const res = await api.get<User[]>(`/groups/${selectedGroupId}/members`);
+            return res.data;
+        },
+        enabled: isOpen && !!selectedGroupId,
+    });
 
     const { data: comments = [] } = useQuery({
         queryKey: ['task-comments', initialData?.id],
@@ -252,7 +259,7 @@ export const TaskModal: React.FC<TaskModalProps> = ({ isOpen, onClose, onSubmit,
                                         className="w-full input-field appearance-none bg-cyber-dark"
                                     >
                                         <option value="">Unassigned</option>
-                                        {selectedGroup?.members.map(m => (
+                                        {groupMembers.map(m => (
                                             <option key={m.id} value={m.id}>{m.username}</option>
                                         ))}
                                     </select>
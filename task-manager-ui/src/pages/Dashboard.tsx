@@ -132,15 +132,15 @@ export const Dashboard: React.FC = () => {
         }
     });
 
-    // Quick Status Update mutation
-    const updateStatusMutation = useMutation({
-        mutationFn: ({ id, status }: { id: number, status: TaskStatus }) =>
-            taskService.updateTask(id, { status }),
+    // Board move mutation (status and position together)
+    const moveMutation = useMutation({
+        mutationFn: ({ id, status, afterId }: { id: number, status: TaskStatus, afterId?: number }) =>
+            taskService.moveTask(id, status, afterId),
         onSuccess: () => {
             queryClient.invalidateQueries({ queryKey: ['tasks'] });
         },
         onError: () => {
-            toast.error('Failed to update task status');
+            toast.error('Failed to move task');
         }
     });
 
@@ -176,8 +176,8 @@ export const Dashboard: React.FC = () => {
         saveMutation.mutate(data);
     };
 
-    const handleStatusUpdate = (id: number, status: TaskStatus) => {
-        updateStatusMutation.mutate({ id, status });
+    const handleMove = (id: number, status: TaskStatus, afterId?: number) => {
+        moveMutation.mutate({ id, status, afterId });
     };
 
     const handleDelete = async (id: number) => {
@@ -334,7 +334,7 @@ export const Dashboard: React.FC = () => {
                                 {view === 'kanban' ? (
                                     <KanbanBoard
                                         tasks={filteredTasks}
-                                        onUpdateStatus={handleStatusUpdate}
+                                        onMove={handleMove}
                                         onEdit={(task: Task) => {
                                             setEditingTask(task);
                                             setIsModalOpen(true);
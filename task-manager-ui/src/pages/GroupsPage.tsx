@@ -84,12 +84,23 @@ export const GroupsPage: React.FC = () => {
 
     const inviteMutation = useMutation({
         mutationFn: async ({ groupId, email }: { groupId: number; email: string }) => {
-            const res = await api.post('/invitations/invite', { groupId, email });
+            // Several addresses (comma or space separated) go through the bulk endpoint
+            const emails = email.split(/[\s,;]+/).filter(Boolean);
+            if (emails.length > 1) {
+                const res = await api.post(`/groups/${groupId}/invitations/bulk`, { emails });
+                return res.data;
+            }
+            const res = await api.post('/invitations/invite', { groupId, email: emails[0] });
             return res.data;
         },
-        onSuccess: (_, variables) => {
+        onSuccess: (data, variables) => {
             setInviteEmails(prev => ({ ...prev, [variables.groupId]: '' }));
-            toast.success(`Invitation sent to ${variables.email}`);
+            if (data?.results) {
+                const skipped = data.results.length - data.invited;
+                toast.success(`Invited ${data.invited} of ${data.results.length}` + (skipped ? ` (${skipped} skipped)` : ''));
+            } else {
+                toast.success(`Invitation sent to ${variables.email}`);
+            }
         },
         onError: (err: any) => toast.error(err.response?.data?.message || 'Failed to send invitation'),
     });
@@ -295,10 +306,10 @@ export const GroupsPage: React.FC = () => {
                                 {group.owner.username === currentUser?.username && (
                                     <div className="mt-6 pt-6 border-t border-white/5 flex gap-2">
                                         <input
-                                            type="email"
+                                            type="text"
                                             value={inviteEmails[group.id] || ''}
                                             onChange={(e) => setInviteEmails({ ...inviteEmails, [group.id]: e.target.value })}
-                                            placeholder="Invite email..."
+                                            placeholder="Invite emails..."
                                             className="input-field text-xs py-2"
                                         />
                                         <button
@@ -5,6 +5,8 @@ export interface Group {
     id: number;
     name: string;
     owner: User;
+    memberCount: number;
+    // First few members only; GET /groups/{id}/members has the full list
     members: User[];
 }
 
@@ -24,6 +26,9 @@ export interface Task {
     dueDate?: string;
     createdAt: string;
     completedAt?: string;
+    commentCount?: number;
+    lastCommentAt?: string;
+    rank?: string; // Position within its board column
     user: User; // Owner
     group?: Group;
     assignedUser?: User;
@@ -67,3 +72,26 @@ export interface Invitation {
     status: 'PENDING' | 'ACCEPTED' | 'REJECTED';
     invitedAt: string;
 }
+
+export interface CursorPage<T> {
+    items: T[];
+    nextCursor: number | null;
+}
+
+export interface Notification {
+    id: number;
+    type: 'TASK_ASSIGNED' | 'COMMENT_ADDED' | 'TASK_DUE_SOON' | 'GROUP_INVITATION';
+    message: string;
+    taskId?: number;
+    groupId?: number;
+    read: boolean;
+    createdAt: string;
+}
+
+export interface NotificationEvent {
+    type: 'NOTIFICATION' | 'UNREAD_COUNT';
+    notification?: Notification;
+    unreadCount: number;
+}
+
+export type EmailDelivery = 'IMMEDIATE' | 'DIGEST';